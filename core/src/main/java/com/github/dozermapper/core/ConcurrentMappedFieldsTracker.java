@@ -0,0 +1,155 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Internal tracker shared by the workers mapping the elements of a collection in parallel. Destination objects are
+ * claimed atomically, so a source object referenced from elements of different workers is mapped into a single
+ * destination object, as if the collection was mapped sequentially. Only intended for internal use.
+ */
+final class ConcurrentMappedFieldsTracker extends MappedFieldsTracker {
+
+    // source object and map id -> destination objects, each list is guarded by itself
+    private final ConcurrentMap<Key, List<Object>> entries = new ConcurrentHashMap<>();
+
+    ConcurrentMappedFieldsTracker(MappedFieldsTracker parent) {
+        super(parent);
+    }
+
+    @Override
+    public void put(Object src, Object dest, String mapId) {
+        if (src == null) {
+            return;
+        }
+
+        List<Object> destObjects = entries.computeIfAbsent(new Key(src, mapId), key -> new ArrayList<>(1));
+        synchronized (destObjects) {
+            if (!containsSame(destObjects, dest)) {
+                destObjects.add(dest);
+            }
+        }
+    }
+
+    @Override
+    public Object getMappedValue(Object src, Class<?> destType, String mapId) {
+        List<Object> destObjects = entries.get(new Key(src, mapId));
+        if (destObjects != null) {
+            synchronized (destObjects) {
+                Object mappedValue = find(destObjects, destType);
+                if (mappedValue != null) {
+                    return mappedValue;
+                }
+            }
+        }
+
+        return super.getMappedValue(src, destType, mapId);
+    }
+
+    /**
+     * Tracks a newly created destination object, unless another worker tracked an object of the same class for the
+     * source object in the meantime. In that case the other object is returned and the created one must be dropped.
+     *
+     * @param src   source object
+     * @param dest  destination object created for the source object
+     * @param mapId mapping identifier
+     * @return destination object to map into and use
+     */
+    @Override
+    public Object claim(Object src, Object dest, String mapId) {
+        List<Object> destObjects = entries.computeIfAbsent(new Key(src, mapId), key -> new ArrayList<>(1));
+        synchronized (destObjects) {
+            Object claimed = find(destObjects, dest.getClass());
+            if (claimed != null) {
+                return claimed;
+            }
+
+            destObjects.add(dest);
+            return dest;
+        }
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+    }
+
+    @Override
+    protected void putInto(MappedFieldsTracker target) {
+        entries.forEach((key, destObjects) -> {
+            synchronized (destObjects) {
+                for (Object dest : destObjects) {
+                    target.put(key.src, dest, key.mapId);
+                }
+            }
+        });
+    }
+
+    private static Object find(List<Object> destObjects, Class<?> destType) {
+        for (Object dest : destObjects) {
+            // 1664984 - bi-directionnal mapping with sets & subclasses
+            if (dest != null && destType.isAssignableFrom(dest.getClass())) {
+                return dest;
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean containsSame(List<Object> destObjects, Object dest) {
+        for (Object current : destObjects) {
+            if (current == dest) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Identity of a source object together with the map id it was mapped with
+     */
+    private static final class Key {
+
+        private final Object src;
+        private final String mapId;
+
+        Key(Object src, String mapId) {
+            this.src = src;
+            this.mapId = mapId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key other = (Key)o;
+            return src == other.src && Objects.equals(mapId, other.mapId);
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(src) * 31 + (mapId != null ? mapId.hashCode() : 0);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares how many instances Dozer creates of a {@link CustomConverter} which is referenced by class, e.g. from
+ * XML mappings. Converter instances passed to the mapper are always shared and ignore this annotation.
+ * Converters without this annotation are instantiated for every conversion.
+ * <p>
+ * Shared converters may be invoked concurrently and must be thread safe. This includes {@link MapperAware}
+ * and {@link ConfigurableCustomConverter} implementations, which receive the mapper and the parameter
+ * before every conversion.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ConverterScope {
+
+    Type value();
+
+    enum Type {
+
+        /**
+         * A new instance for every conversion
+         */
+        PROTOTYPE,
+
+        /**
+         * One instance per call to {@link Mapper#map(Object, Class)} or any of its variants
+         */
+        MAPPING,
+
+        /**
+         * One instance per mapper
+         */
+        SINGLETON
+    }
+}
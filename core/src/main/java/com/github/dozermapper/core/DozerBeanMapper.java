@@ -16,10 +16,13 @@
 package com.github.dozermapper.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import com.github.dozermapper.core.builder.DestBeanBuilderCreator;
 import com.github.dozermapper.core.cache.CacheManager;
@@ -31,6 +34,7 @@ import com.github.dozermapper.core.config.BeanContainer;
 import com.github.dozermapper.core.events.DefaultEventManager;
 import com.github.dozermapper.core.events.EventListener;
 import com.github.dozermapper.core.events.EventManager;
+import com.github.dozermapper.core.events.NoopEventManager;
 import com.github.dozermapper.core.factory.DestBeanCreator;
 import com.github.dozermapper.core.metadata.DozerMappingMetadata;
 import com.github.dozermapper.core.metadata.MappingMetadata;
@@ -48,15 +52,7 @@ import com.github.dozermapper.core.propertydescriptor.PropertyDescriptorFactory;
  */
 public class DozerBeanMapper implements Mapper, MapperModelContext {
 
-    private final BeanContainer beanContainer;
-
-    private final DestBeanCreator destBeanCreator;
-    private final DestBeanBuilderCreator destBeanBuilderCreator;
-    private final BeanMappingGenerator beanMappingGenerator;
-    private final PropertyDescriptorFactory propertyDescriptorFactory;
-
     private final ClassMappings customMappings;
-    private final Configuration globalConfiguration;
 
     /*
      * Accessible for custom injection
@@ -71,9 +67,8 @@ public class DozerBeanMapper implements Mapper, MapperModelContext {
      * Not accessible for injection
      */
 
-    // There are no global caches. Caches are per bean mapper instance
-    private final CacheManager cacheManager;
-    private EventManager eventManager;
+    // There are no global caches. Caches are per bean mapper instance, held by the shared mapping engine
+    private final MappingEngine mappingEngine;
 
     DozerBeanMapper(List<String> mappingFiles,
                     BeanContainer beanContainer,
@@ -88,21 +83,19 @@ public class DozerBeanMapper implements Mapper, MapperModelContext {
                     Map<String, CustomConverter> customConvertersWithId,
                     ClassMappings customMappings,
                     Configuration globalConfiguration,
-                    CacheManager cacheManager) {
-        this.beanContainer = beanContainer;
-        this.destBeanCreator = destBeanCreator;
-        this.destBeanBuilderCreator = destBeanBuilderCreator;
-        this.beanMappingGenerator = beanMappingGenerator;
-        this.propertyDescriptorFactory = propertyDescriptorFactory;
+                    CacheManager cacheManager,
+                    MappingEngineOptions engineOptions) {
         this.customConverters = new ArrayList<>(customConverters);
         this.eventListeners = new ArrayList<>(eventListeners);
         this.mappingFiles = new ArrayList<>(mappingFiles);
         this.customFieldMapper = customFieldMapper;
         this.customConvertersWithId = new HashMap<>(customConvertersWithId);
-        this.eventManager = new DefaultEventManager(eventListeners);
         this.customMappings = customMappings;
-        this.globalConfiguration = globalConfiguration;
-        this.cacheManager = cacheManager;
+
+        EventManager eventManager = this.eventListeners.isEmpty() ? new NoopEventManager() : new DefaultEventManager(this.eventListeners);
+        this.mappingEngine = new MappingEngine(customMappings, globalConfiguration, cacheManager, this.customConverters, eventManager,
+                                               customFieldMapper, this.customConvertersWithId, beanContainer, destBeanCreator,
+                                               destBeanBuilderCreator, beanMappingGenerator, propertyDescriptorFactory, engineOptions);
     }
 
     /**
@@ -137,12 +130,40 @@ public class DozerBeanMapper implements Mapper, MapperModelContext {
         getMappingProcessor().map(source, destination);
     }
 
-    protected Mapper getMappingProcessor() {
-        Mapper processor = new MappingProcessor(customMappings, globalConfiguration, cacheManager, customConverters,
-                                                eventManager, customFieldMapper, customConvertersWithId, beanContainer, destBeanCreator, destBeanBuilderCreator,
-                                                beanMappingGenerator, propertyDescriptorFactory);
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The class mapping, custom converter and creation strategy are resolved once per runtime source class. Every
+     * source is still mapped as a separate mapping request.
+     */
+    @Override
+    public <T, C extends Collection<? super T>> C mapAllInto(Iterable<?> sources, Class<T> destinationClass, String mapId, C destination)
+            throws MappingException {
+        Function<Object, T> batchMapper = mappingEngine.newMappingProcessor().batchMapper(destinationClass, mapId, true);
+        for (Object source : sources) {
+            destination.add(batchMapper.apply(source));
+        }
+        return destination;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every thread consuming the stream maps with its own processor, which resolves the class mapping, custom converter
+     * and creation strategy once per runtime source class. So the returned stream may still be made parallel. Every
+     * source is mapped as a separate mapping request.
+     */
+    @Override
+    public <T> Stream<T> mapAll(Stream<?> sources, Class<T> destinationClass) throws MappingException {
+        ThreadLocal<Function<Object, T>> batchMappers =
+                ThreadLocal.withInitial(() -> mappingEngine.newMappingProcessor().batchMapper(destinationClass, null, true));
+        // rejects an invalid destination class right away rather than when the stream is consumed
+        batchMappers.get();
+        return sources.map(source -> batchMappers.get().apply(source));
+    }
 
-        return processor;
+    protected Mapper getMappingProcessor() {
+        return mappingEngine.newMappingProcessor();
     }
 
     /**
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -32,6 +33,7 @@ import com.github.dozermapper.core.builder.BeanMappingsBuilder;
 import com.github.dozermapper.core.builder.DestBeanBuilderCreator;
 import com.github.dozermapper.core.builder.xml.BeanMappingXMLBuilder;
 import com.github.dozermapper.core.cache.CacheManager;
+import com.github.dozermapper.core.cache.ConcurrentCache;
 import com.github.dozermapper.core.cache.DefaultCacheManager;
 import com.github.dozermapper.core.cache.DozerCacheType;
 import com.github.dozermapper.core.classmap.ClassMapBuilder;
@@ -64,6 +66,7 @@ import com.github.dozermapper.core.loader.xml.XMLParser;
 import com.github.dozermapper.core.loader.xml.XMLParserFactory;
 import com.github.dozermapper.core.osgi.Activator;
 import com.github.dozermapper.core.osgi.OSGiClassLoader;
+import com.github.dozermapper.core.plan.ClassMapPlanCompiler;
 import com.github.dozermapper.core.propertydescriptor.PropertyDescriptorFactory;
 import com.github.dozermapper.core.util.DefaultClassLoader;
 import com.github.dozermapper.core.util.DefaultProxyResolver;
@@ -103,6 +106,7 @@ public final class DozerBeanMapperBuilder {
     private ClassMappings customMappings;
     private Configuration globalConfiguration;
     private CacheManager cacheManager;
+    private ForkJoinPool collectionMappingPool;
 
     private DozerBeanMapperBuilder() {
     }
@@ -523,7 +527,8 @@ public final class DozerBeanMapperBuilder {
      * Registers a {@link CacheManager} for the mapper.
      * Which can be used to control the caching behaviour
      * <p>
-     * By default, {@link DefaultCacheManager} are registered
+     * By default, {@link DefaultCacheManager} are registered, holding {@link ConcurrentCache}s
+     * if {@code dozer.cache.use-concurrent} is enabled.
      *
      * @param cacheManager cacheManager to use
      * @return modified builder to be further configured.
@@ -533,6 +538,20 @@ public final class DozerBeanMapperBuilder {
         return this;
     }
 
+    /**
+     * Registers a {@link ForkJoinPool} used to map the elements of large collections in parallel.
+     * Parallel mapping is only enabled if {@code dozer.mapping.parallel-collection-threshold} is set.
+     * <p>
+     * By default, {@link ForkJoinPool#commonPool()} is used.
+     *
+     * @param collectionMappingPool pool to use
+     * @return modified builder to be further configured.
+     */
+    public DozerBeanMapperBuilder withCollectionMappingPool(ForkJoinPool collectionMappingPool) {
+        this.collectionMappingPool = collectionMappingPool;
+        return this;
+    }
+
     /**
      * Creates an instance of {@link Mapper}. Mapper is configured according to the current builder state.
      * <p>
@@ -600,7 +619,8 @@ public final class DozerBeanMapperBuilder {
                                    customConvertersWithId,
                                    customMappings,
                                    globalConfiguration,
-                                   cacheManager);
+                                   cacheManager,
+                                   getMappingEngineOptions(settings));
     }
 
     private List<MappingFileData> createMappingsWithBuilders(BeanContainer beanContainer, DestBeanCreator destBeanCreator, PropertyDescriptorFactory propertyDescriptorFactory) {
@@ -696,9 +716,14 @@ public final class DozerBeanMapperBuilder {
         if (cacheManager == null) {
             // Initialize any bean mapper caches. These caches are only visible to the bean mapper instance and
             // are not shared across the VM.
-            CacheManager cacheManager = new DefaultCacheManager();
-            cacheManager.putCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name(), settings.getConverterByDestTypeCacheMaxSize());
-            cacheManager.putCache(DozerCacheType.SUPER_TYPE_CHECK.name(), settings.getSuperTypesCacheMaxSize());
+            DefaultCacheManager cacheManager = new DefaultCacheManager();
+            if (settings.getUseConcurrentCaches()) {
+                cacheManager.putCache(new ConcurrentCache<>(DozerCacheType.CONVERTER_BY_DEST_TYPE.name(), settings.getConverterByDestTypeCacheMaxSize()));
+                cacheManager.putCache(new ConcurrentCache<>(DozerCacheType.SUPER_TYPE_CHECK.name(), settings.getSuperTypesCacheMaxSize()));
+            } else {
+                cacheManager.putCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name(), settings.getConverterByDestTypeCacheMaxSize());
+                cacheManager.putCache(DozerCacheType.SUPER_TYPE_CHECK.name(), settings.getSuperTypesCacheMaxSize());
+            }
 
             return cacheManager;
         } else {
@@ -706,6 +731,24 @@ public final class DozerBeanMapperBuilder {
         }
     }
 
+    private MappingEngineOptions getMappingEngineOptions(Settings settings) {
+        return MappingEngineOptions.builder()
+                .withPlanCompiler(settings.getUseCompiledMappingPlans() ? new ClassMapPlanCompiler() : null)
+                .withCollectionMappingPool(getCollectionMappingPool(settings))
+                .withParallelCollectionThreshold(settings.getParallelCollectionMappingThreshold())
+                .withReadDestBeforeWrite(settings.getReadDestBeforeWrite())
+                .withLazyLoadPolicy(settings.getLazyLoadPolicy())
+                .build();
+    }
+
+    private ForkJoinPool getCollectionMappingPool(Settings settings) {
+        if (settings.getParallelCollectionMappingThreshold() <= 0) {
+            return null;
+        }
+
+        return collectionMappingPool == null ? ForkJoinPool.commonPool() : collectionMappingPool;
+    }
+
     private ELEngine getELEngine() {
         if (elEngine == null) {
             if (ELExpressionFactory.isSupported()) {
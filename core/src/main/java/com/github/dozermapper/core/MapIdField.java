@@ -21,7 +21,11 @@ import java.util.Map;
 /**
  * Only intended for internal use. Simple helper class to keep track of mapped objects
  * and their mapIds.
+ *
+ * @deprecated No longer used, {@link MappedFieldsTracker} keeps mapped objects and their mapIds in a single table.
+ * It will be removed in future releases.
  */
+@Deprecated
 public class MapIdField {
 
     // <mapIdOfObject, mappedObject>
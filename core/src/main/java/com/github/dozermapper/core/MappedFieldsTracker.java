@@ -15,38 +15,66 @@
  */
 package com.github.dozermapper.core;
 
-import java.util.HashMap;
-import java.util.IdentityHashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * Keeps track of mapped object during this mapping process execution.
  * Objects, which are referenced multiple types in object hierarchy will be fetched from here
  * to retain referential integrity of resulting object graph.
+ * <p>
+ * Entries are kept in a single open addressing table, hashed by the identity of the source object and the map id, so
+ * neither equals() nor hashCode() of mapped objects is called.
+ * <p>
+ * A tracker may be created on top of a parent tracker, e.g. for the workers mapping a collection in parallel.
+ * Lookups fall back to the parent, which must not be modified until the tracker is merged back into it.
+ * This tracker is not thread safe, see {@link ConcurrentMappedFieldsTracker} for one shared by several workers.
  */
 public class MappedFieldsTracker {
 
-    // Hash Code is ignored as it can serve application specific needs
-    // <srcObject, <hashCodeOfDestination, mappedDestinationMapIdField>>
-    private final Map<Object, Map<Integer, MapIdField>> mappedFields = new IdentityHashMap<>();
+    private static final int INITIAL_CAPACITY = 16;
 
-    public void put(Object src, Object dest, String mapId) {
-        int destId = System.identityHashCode(dest);
+    private final MappedFieldsTracker parent;
+
+    // entry i consists of srcObjects[i], destObjects[i] and mapIds[i], an empty slot has no source object
+    private Object[] srcObjects;
+    private Object[] destObjects;
+    private String[] mapIds;
+    private int size;
 
-        Map<Integer, MapIdField> mappedTo = mappedFields.get(src);
-        if (mappedTo == null) {
-            mappedTo = new HashMap<>();
-            mappedFields.put(src, mappedTo);
+    public MappedFieldsTracker() {
+        this(null);
+    }
+
+    public MappedFieldsTracker(MappedFieldsTracker parent) {
+        this.parent = parent;
+    }
+
+    public void put(Object src, Object dest, String mapId) {
+        if (src == null) {
+            return;
+        }
+        if (srcObjects == null) {
+            allocate(INITIAL_CAPACITY);
         }
 
-        MapIdField destMapIdField = mappedTo.get(destId);
-        if (destMapIdField == null) {
-            destMapIdField = new MapIdField();
-            mappedTo.put(destId, destMapIdField);
+        int mask = srcObjects.length - 1;
+        int index = hash(src, mapId) & mask;
+        while (srcObjects[index] != null) {
+            if (srcObjects[index] == src && destObjects[index] == dest && Objects.equals(mapIds[index], mapId)) {
+                return;
+            }
+            index = (index + 1) & mask;
         }
 
-        if (!destMapIdField.containsMapId(mapId)) {
-            destMapIdField.put(mapId, dest);
+        srcObjects[index] = src;
+        destObjects[index] = dest;
+        mapIds[index] = mapId;
+        size++;
+
+        // keep the table at most half full, so probe sequences stay short
+        if (size * 2 > srcObjects.length) {
+            resize();
         }
     }
 
@@ -55,21 +83,109 @@ public class MappedFieldsTracker {
     }
 
     public Object getMappedValue(Object src, Class<?> destType, String mapId) {
-        Map<Integer, MapIdField> alreadyMappedFields = mappedFields.get(src);
-        if (alreadyMappedFields != null) {
-            for (MapIdField alreadyMappedField : alreadyMappedFields.values()) {
-                Object mappedValue = alreadyMappedField.get(mapId);
+        if (size > 0) {
+            int mask = srcObjects.length - 1;
+            int index = hash(src, mapId) & mask;
+            while (srcObjects[index] != null) {
+                Object mappedValue = destObjects[index];
                 // 1664984 - bi-directionnal mapping with sets & subclasses
-                if (mappedValue != null && destType.isAssignableFrom(mappedValue.getClass())) {
+                if (srcObjects[index] == src && Objects.equals(mapIds[index], mapId) && mappedValue != null
+                    && destType.isAssignableFrom(mappedValue.getClass())) {
                     // Source value has already been mapped to the required destFieldType.
                     return mappedValue;
                 }
+                index = (index + 1) & mask;
             }
         }
-        return null;
+        return parent != null ? parent.getMappedValue(src, destType, mapId) : null;
     }
 
     public Object getMappedValue(Object src, Class<?> destType) {
         return getMappedValue(src, destType, null);
     }
+
+    /**
+     * Tracks a newly created destination object, unless an object of the same class is tracked for the source
+     * object already. As only a single thread uses this tracker, the lookup before creating the object suffices and
+     * the object is tracked once it is mapped into.
+     *
+     * @param src   source object
+     * @param dest  destination object created for the source object
+     * @param mapId mapping identifier
+     * @return destination object to map into and use
+     */
+    public Object claim(Object src, Object dest, String mapId) {
+        return dest;
+    }
+
+    /**
+     * Adds all objects tracked by another tracker, keeping the objects already tracked here
+     *
+     * @param other tracker to merge, the entries of its parent are not merged
+     */
+    public void putAll(MappedFieldsTracker other) {
+        other.putInto(this);
+    }
+
+    /**
+     * Adds the objects tracked here, without the ones of the parent, to another tracker
+     *
+     * @param target tracker to add to
+     */
+    protected void putInto(MappedFieldsTracker target) {
+        if (size == 0) {
+            return;
+        }
+
+        for (int i = 0; i < srcObjects.length; i++) {
+            if (srcObjects[i] != null) {
+                target.put(srcObjects[i], destObjects[i], mapIds[i]);
+            }
+        }
+    }
+
+    /**
+     * Forgets all mapped objects, e.g. before the next independent mapping request
+     */
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(srcObjects, null);
+            Arrays.fill(destObjects, null);
+            Arrays.fill(mapIds, null);
+            size = 0;
+        }
+    }
+
+    private void allocate(int capacity) {
+        srcObjects = new Object[capacity];
+        destObjects = new Object[capacity];
+        mapIds = new String[capacity];
+    }
+
+    private void resize() {
+        Object[] oldSrcObjects = srcObjects;
+        Object[] oldDestObjects = destObjects;
+        String[] oldMapIds = mapIds;
+
+        allocate(oldSrcObjects.length * 2);
+        int mask = srcObjects.length - 1;
+        for (int i = 0; i < oldSrcObjects.length; i++) {
+            Object src = oldSrcObjects[i];
+            if (src != null) {
+                int index = hash(src, oldMapIds[i]) & mask;
+                while (srcObjects[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                srcObjects[index] = src;
+                destObjects[index] = oldDestObjects[i];
+                mapIds[index] = oldMapIds[i];
+            }
+        }
+    }
+
+    private static int hash(Object src, String mapId) {
+        int hash = System.identityHashCode(src) * 31 + (mapId != null ? mapId.hashCode() : 0);
+        // spread the identity hash, as only its low bits select the slot
+        return hash ^ (hash >>> 16);
+    }
 }
@@ -15,6 +15,11 @@
  */
 package com.github.dozermapper.core;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 import com.github.dozermapper.core.metadata.MappingMetadata;
 
 /**
@@ -64,6 +69,68 @@ public interface Mapper {
      */
     void map(Object source, Object destination, String mapId) throws MappingException;
 
+    /**
+     * Constructs new instances of destinationClass and performs mapping from each of the sources
+     *
+     * @param sources          objects to convert from
+     * @param destinationClass type to convert to
+     * @param <T>              type to convert to
+     * @return mapped objects in iteration order of the sources
+     * @throws MappingException mapping failure
+     */
+    default <T> List<T> mapAll(Iterable<?> sources, Class<T> destinationClass) throws MappingException {
+        return mapAll(sources, destinationClass, null);
+    }
+
+    /**
+     * Constructs new instances of destinationClass and performs mapping from each of the sources
+     *
+     * @param sources          objects to convert from
+     * @param destinationClass type to convert to
+     * @param mapId            id in configuration for mapping
+     * @param <T>              type to convert to
+     * @return mapped objects in iteration order of the sources
+     * @throws MappingException mapping failure
+     */
+    default <T> List<T> mapAll(Iterable<?> sources, Class<T> destinationClass, String mapId) throws MappingException {
+        List<T> destination = sources instanceof Collection ? new ArrayList<>(((Collection<?>)sources).size()) : new ArrayList<>();
+        return mapAllInto(sources, destinationClass, mapId, destination);
+    }
+
+    /**
+     * Constructs new instances of destinationClass, performs mapping from each of the sources and adds the results
+     * to the given collection, e.g. a presized list
+     *
+     * @param sources          objects to convert from
+     * @param destinationClass type to convert to
+     * @param mapId            id in configuration for mapping
+     * @param destination      collection to add the mapped objects to
+     * @param <T>              type to convert to
+     * @param <C>              type of the destination collection
+     * @return destination collection
+     * @throws MappingException mapping failure
+     */
+    default <T, C extends Collection<? super T>> C mapAllInto(Iterable<?> sources, Class<T> destinationClass, String mapId, C destination)
+            throws MappingException {
+        for (Object source : sources) {
+            destination.add(map(source, destinationClass, mapId));
+        }
+        return destination;
+    }
+
+    /**
+     * Lazily constructs new instances of destinationClass and performs mapping from each of the sources
+     *
+     * @param sources          objects to convert from
+     * @param destinationClass type to convert to
+     * @param <T>              type to convert to
+     * @return stream of mapped objects
+     * @throws MappingException mapping failure
+     */
+    default <T> Stream<T> mapAll(Stream<?> sources, Class<T> destinationClass) throws MappingException {
+        return sources.map(source -> map(source, destinationClass));
+    }
+
     /**
      * The {@link com.github.dozermapper.core.metadata.MappingMetadata} interface can be used to query information about the current
      * mapping definitions. It provides read only access to all important classes and field
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+
+import com.github.dozermapper.core.builder.DestBeanBuilderCreator;
+import com.github.dozermapper.core.cache.Cache;
+import com.github.dozermapper.core.cache.CacheManager;
+import com.github.dozermapper.core.cache.DozerCacheType;
+import com.github.dozermapper.core.classmap.ClassMapBuilder;
+import com.github.dozermapper.core.classmap.ClassMappings;
+import com.github.dozermapper.core.classmap.Configuration;
+import com.github.dozermapper.core.classmap.LazyLoadPolicy;
+import com.github.dozermapper.core.classmap.generator.BeanMappingGenerator;
+import com.github.dozermapper.core.config.BeanContainer;
+import com.github.dozermapper.core.converters.CustomConverterRegistry;
+import com.github.dozermapper.core.converters.PrimitiveOrWrapperConverter;
+import com.github.dozermapper.core.events.EventManager;
+import com.github.dozermapper.core.factory.DestBeanCreator;
+import com.github.dozermapper.core.plan.ClassMapPlanCompiler;
+import com.github.dozermapper.core.propertydescriptor.JavaBeanPropertyDescriptor;
+import com.github.dozermapper.core.propertydescriptor.PropertyDescriptorFactory;
+import com.github.dozermapper.core.util.LogMsgFactory;
+
+/**
+ * Internal class holding the immutable, thread safe state of the mapping engine. A single instance is created per
+ * {@link DozerBeanMapper} and shared by all {@link MappingProcessor}s, which only carry the state of a single
+ * mapping request. Only intended for internal use.
+ */
+public final class MappingEngine {
+
+    private final ClassMappings classMappings;
+    private final Configuration globalConfiguration;
+    private final List<CustomConverter> customConverterObjects;
+    private final Map<String, CustomConverter> customConverterObjectsWithId;
+    private final CustomConverterRegistry customConverterRegistry;
+    private final EventManager eventManager;
+    private final CustomFieldMapper customFieldMapper;
+    private final Cache converterByDestTypeCache;
+    private final Cache superTypeCache;
+    private final PrimitiveOrWrapperConverter primitiveConverter;
+    private final LogMsgFactory logMsgFactory;
+    private final BeanContainer beanContainer;
+    private final ClassMapBuilder classMapBuilder;
+    private final DestBeanCreator destBeanCreator;
+    private final DestBeanBuilderCreator destBeanBuilderCreator;
+    private final MappingEngineOptions options;
+    // class -> identifier property -> descriptor, used to create identifier stubs of uninitialized source values
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, JavaBeanPropertyDescriptor>> identifierDescriptors = new ConcurrentHashMap<>();
+
+    public MappingEngine(ClassMappings classMappings, Configuration globalConfiguration, CacheManager cacheMgr,
+                         List<CustomConverter> customConverterObjects,
+                         EventManager eventManager, CustomFieldMapper customFieldMapper,
+                         Map<String, CustomConverter> customConverterObjectsWithId, BeanContainer beanContainer,
+                         DestBeanCreator destBeanCreator, DestBeanBuilderCreator destBeanBuilderCreator,
+                         BeanMappingGenerator beanMappingGenerator, PropertyDescriptorFactory propertyDescriptorFactory) {
+        this(classMappings, globalConfiguration, cacheMgr, customConverterObjects, eventManager, customFieldMapper, customConverterObjectsWithId,
+             beanContainer, destBeanCreator, destBeanBuilderCreator, beanMappingGenerator, propertyDescriptorFactory, MappingEngineOptions.defaults());
+    }
+
+    public MappingEngine(ClassMappings classMappings, Configuration globalConfiguration, CacheManager cacheMgr,
+                         List<CustomConverter> customConverterObjects,
+                         EventManager eventManager, CustomFieldMapper customFieldMapper,
+                         Map<String, CustomConverter> customConverterObjectsWithId, BeanContainer beanContainer,
+                         DestBeanCreator destBeanCreator, DestBeanBuilderCreator destBeanBuilderCreator,
+                         BeanMappingGenerator beanMappingGenerator, PropertyDescriptorFactory propertyDescriptorFactory,
+                         MappingEngineOptions options) {
+        this.classMappings = classMappings;
+        this.globalConfiguration = globalConfiguration;
+        this.customConverterObjects = customConverterObjects;
+        this.eventManager = eventManager;
+        this.customFieldMapper = customFieldMapper;
+        this.converterByDestTypeCache = cacheMgr.getCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name());
+        this.superTypeCache = cacheMgr.getCache(DozerCacheType.SUPER_TYPE_CHECK.name());
+        this.customConverterObjectsWithId = customConverterObjectsWithId;
+        this.customConverterRegistry = new CustomConverterRegistry(customConverterObjects);
+        this.beanContainer = beanContainer;
+        this.destBeanCreator = destBeanCreator;
+        this.destBeanBuilderCreator = destBeanBuilderCreator;
+        this.classMapBuilder = new ClassMapBuilder(beanContainer, destBeanCreator, beanMappingGenerator, propertyDescriptorFactory);
+        this.primitiveConverter = new PrimitiveOrWrapperConverter(beanContainer);
+        this.logMsgFactory = new LogMsgFactory();
+        this.options = options;
+    }
+
+    /**
+     * Creates the processor for a single mapping request
+     *
+     * @return processor bound to this engine
+     */
+    public MappingProcessor newMappingProcessor() {
+        return new MappingProcessor(this);
+    }
+
+    public ClassMappings getClassMappings() {
+        return classMappings;
+    }
+
+    public Configuration getGlobalConfiguration() {
+        return globalConfiguration;
+    }
+
+    public List<CustomConverter> getCustomConverterObjects() {
+        return customConverterObjects;
+    }
+
+    public Map<String, CustomConverter> getCustomConverterObjectsWithId() {
+        return customConverterObjectsWithId;
+    }
+
+    public CustomConverterRegistry getCustomConverterRegistry() {
+        return customConverterRegistry;
+    }
+
+    public EventManager getEventManager() {
+        return eventManager;
+    }
+
+    public CustomFieldMapper getCustomFieldMapper() {
+        return customFieldMapper;
+    }
+
+    public Cache getConverterByDestTypeCache() {
+        return converterByDestTypeCache;
+    }
+
+    public Cache getSuperTypeCache() {
+        return superTypeCache;
+    }
+
+    public PrimitiveOrWrapperConverter getPrimitiveConverter() {
+        return primitiveConverter;
+    }
+
+    public LogMsgFactory getLogMsgFactory() {
+        return logMsgFactory;
+    }
+
+    public BeanContainer getBeanContainer() {
+        return beanContainer;
+    }
+
+    public ClassMapBuilder getClassMapBuilder() {
+        return classMapBuilder;
+    }
+
+    public DestBeanCreator getDestBeanCreator() {
+        return destBeanCreator;
+    }
+
+    public DestBeanBuilderCreator getDestBeanBuilderCreator() {
+        return destBeanBuilderCreator;
+    }
+
+    public ClassMapPlanCompiler getPlanCompiler() {
+        return options.getPlanCompiler();
+    }
+
+    /**
+     * Pool used to map the elements of large collections in parallel
+     *
+     * @return pool or null if collections are always mapped sequentially
+     */
+    public ForkJoinPool getCollectionMappingPool() {
+        return options.getCollectionMappingPool();
+    }
+
+    /**
+     * Minimum number of elements of a collection which is mapped in parallel
+     *
+     * @return threshold, only relevant if {@link #getCollectionMappingPool()} is set
+     */
+    public int getParallelCollectionThreshold() {
+        return options.getParallelCollectionThreshold();
+    }
+
+    /**
+     * Whether destination values are read before writing them, unless turned off per class mapping
+     *
+     * @return false if destination fields are never read before writing them
+     */
+    public boolean isReadDestBeforeWrite() {
+        return options.isReadDestBeforeWrite();
+    }
+
+    /**
+     * How source values which are not loaded yet are mapped, unless overridden per field mapping
+     *
+     * @return policy for uninitialized source values
+     */
+    public LazyLoadPolicy getLazyLoadPolicy() {
+        return options.getLazyLoadPolicy();
+    }
+
+    /**
+     * Returns the descriptor of the identifier property of a class, which is created once per class and property
+     *
+     * @param type     class owning the property
+     * @param property name of the identifier property
+     * @return property descriptor
+     */
+    public JavaBeanPropertyDescriptor getIdentifierDescriptor(Class<?> type, String property) {
+        return identifierDescriptors.computeIfAbsent(type, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(property, key -> new JavaBeanPropertyDescriptor(type, property, false, -1, null, null, beanContainer, destBeanCreator));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core;
+
+import java.util.concurrent.ForkJoinPool;
+
+import com.github.dozermapper.core.classmap.LazyLoadPolicy;
+import com.github.dozermapper.core.plan.ClassMapPlanCompiler;
+
+/**
+ * Internal class grouping the optional settings of a {@link MappingEngine}. Instances are immutable and created via
+ * {@link #builder()}; unset options keep the behaviour of a mapper without any settings. Only intended for internal use.
+ */
+public final class MappingEngineOptions {
+
+    private static final MappingEngineOptions DEFAULTS = builder().build();
+
+    private final ClassMapPlanCompiler planCompiler;
+    private final ForkJoinPool collectionMappingPool;
+    private final int parallelCollectionThreshold;
+    private final boolean readDestBeforeWrite;
+    private final LazyLoadPolicy lazyLoadPolicy;
+
+    private MappingEngineOptions(Builder builder) {
+        this.planCompiler = builder.planCompiler;
+        this.collectionMappingPool = builder.collectionMappingPool;
+        this.parallelCollectionThreshold = builder.parallelCollectionThreshold;
+        this.readDestBeforeWrite = builder.readDestBeforeWrite;
+        this.lazyLoadPolicy = builder.lazyLoadPolicy;
+    }
+
+    /**
+     * Options of a mapper without any settings
+     *
+     * @return default options
+     */
+    public static MappingEngineOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Creates a builder starting from the default options
+     *
+     * @return new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public ClassMapPlanCompiler getPlanCompiler() {
+        return planCompiler;
+    }
+
+    public ForkJoinPool getCollectionMappingPool() {
+        return collectionMappingPool;
+    }
+
+    public int getParallelCollectionThreshold() {
+        return parallelCollectionThreshold;
+    }
+
+    public boolean isReadDestBeforeWrite() {
+        return readDestBeforeWrite;
+    }
+
+    public LazyLoadPolicy getLazyLoadPolicy() {
+        return lazyLoadPolicy;
+    }
+
+    /**
+     * Builder of {@link MappingEngineOptions}.
+     */
+    public static final class Builder {
+
+        private ClassMapPlanCompiler planCompiler;
+        private ForkJoinPool collectionMappingPool;
+        private int parallelCollectionThreshold;
+        private boolean readDestBeforeWrite = true;
+        private LazyLoadPolicy lazyLoadPolicy = LazyLoadPolicy.INITIALIZE;
+
+        private Builder() {
+        }
+
+        /**
+         * Compiler of mapping plans for simple class maps
+         *
+         * @param planCompiler compiler or null to always map field by field
+         * @return modified builder
+         */
+        public Builder withPlanCompiler(ClassMapPlanCompiler planCompiler) {
+            this.planCompiler = planCompiler;
+            return this;
+        }
+
+        /**
+         * Pool used to map the elements of large collections in parallel
+         *
+         * @param collectionMappingPool pool or null to always map collections sequentially
+         * @return modified builder
+         */
+        public Builder withCollectionMappingPool(ForkJoinPool collectionMappingPool) {
+            this.collectionMappingPool = collectionMappingPool;
+            return this;
+        }
+
+        /**
+         * Minimum number of elements of a collection which is mapped in parallel
+         *
+         * @param parallelCollectionThreshold threshold, 0 or less disables parallel mapping
+         * @return modified builder
+         */
+        public Builder withParallelCollectionThreshold(int parallelCollectionThreshold) {
+            this.parallelCollectionThreshold = parallelCollectionThreshold;
+            return this;
+        }
+
+        /**
+         * Whether destination values are read before writing them, unless turned off per class mapping
+         *
+         * @param readDestBeforeWrite false to never read destination fields before writing them
+         * @return modified builder
+         */
+        public Builder withReadDestBeforeWrite(boolean readDestBeforeWrite) {
+            this.readDestBeforeWrite = readDestBeforeWrite;
+            return this;
+        }
+
+        /**
+         * How source values which are not loaded yet are mapped, unless overridden per field mapping
+         *
+         * @param lazyLoadPolicy policy for uninitialized source values
+         * @return modified builder
+         */
+        public Builder withLazyLoadPolicy(LazyLoadPolicy lazyLoadPolicy) {
+            this.lazyLoadPolicy = lazyLoadPolicy;
+            return this;
+        }
+
+        public MappingEngineOptions build() {
+            return new MappingEngineOptions(this);
+        }
+    }
+}
@@ -15,13 +15,17 @@
  */
 package com.github.dozermapper.core;
 
+import java.beans.PropertyDescriptor;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -29,23 +33,31 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import com.github.dozermapper.core.builder.BuilderUtil;
 import com.github.dozermapper.core.builder.DestBeanBuilderCreator;
 import com.github.dozermapper.core.cache.Cache;
 import com.github.dozermapper.core.cache.CacheKeyFactory;
 import com.github.dozermapper.core.cache.CacheManager;
-import com.github.dozermapper.core.cache.DozerCacheType;
 import com.github.dozermapper.core.classmap.ClassMap;
 import com.github.dozermapper.core.classmap.ClassMapBuilder;
 import com.github.dozermapper.core.classmap.ClassMappings;
 import com.github.dozermapper.core.classmap.Configuration;
 import com.github.dozermapper.core.classmap.CopyByReferenceContainer;
+import com.github.dozermapper.core.classmap.LazyLoadPolicy;
 import com.github.dozermapper.core.classmap.MappingDirection;
 import com.github.dozermapper.core.classmap.RelationshipType;
 import com.github.dozermapper.core.classmap.generator.BeanMappingGenerator;
 import com.github.dozermapper.core.config.BeanContainer;
+import com.github.dozermapper.core.converters.CustomConverterRegistry;
 import com.github.dozermapper.core.converters.DateFormatContainer;
+import com.github.dozermapper.core.converters.EnumMappings;
 import com.github.dozermapper.core.converters.PrimitiveOrWrapperConverter;
 import com.github.dozermapper.core.events.DefaultEvent;
 import com.github.dozermapper.core.events.EventManager;
@@ -57,15 +69,23 @@ import com.github.dozermapper.core.fieldmap.ExcludeFieldMap;
 import com.github.dozermapper.core.fieldmap.FieldMap;
 import com.github.dozermapper.core.fieldmap.HintContainer;
 import com.github.dozermapper.core.fieldmap.MapFieldMap;
+import com.github.dozermapper.core.plan.ClassMapPlan;
+import com.github.dozermapper.core.plan.ClassMapPlanCompiler;
+import com.github.dozermapper.core.plan.FieldMapPlan;
+import com.github.dozermapper.core.propertydescriptor.JavaBeanPropertyDescriptor;
 import com.github.dozermapper.core.propertydescriptor.PropertyDescriptorFactory;
 import com.github.dozermapper.core.util.CollectionUtils;
 import com.github.dozermapper.core.util.DozerConstants;
+import com.github.dozermapper.core.util.DozerProxyResolver;
+import com.github.dozermapper.core.util.ImmutableTypes;
 import com.github.dozermapper.core.util.IteratorUtils;
 import com.github.dozermapper.core.util.LogMsgFactory;
 import com.github.dozermapper.core.util.MappingUtils;
 import com.github.dozermapper.core.util.MappingValidator;
+import com.github.dozermapper.core.util.PrimitiveArrayUtils;
 import com.github.dozermapper.core.util.ReflectionUtils;
 
+import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -77,29 +97,37 @@ import static com.github.dozermapper.core.util.DozerConstants.ITERATE;
  * Internal Mapping Engine. Not intended for direct use by Application code.
  * This class does most of the heavy lifting and is very recursive in nature.
  * <p>
- * This class is not threadsafe and is instantiated for each new mapping request.
+ * This class is not threadsafe and is instantiated for each new mapping request. The immutable engine state is held by a
+ * shared {@link MappingEngine}, an instance of this class only carries the state of a single mapping request.
  */
 public class MappingProcessor implements Mapper {
 
-    private final Logger log = LoggerFactory.getLogger(MappingProcessor.class);
+    private static final Logger log = LoggerFactory.getLogger(MappingProcessor.class);
 
     private final ClassMappings classMappings;
     private final Configuration globalConfiguration;
-    private final List<CustomConverter> customConverterObjects;
+    private final CustomConverterRegistry customConverterRegistry;
     private final Map<String, CustomConverter> customConverterObjectsWithId;
     private final EventManager eventManager;
     private final CustomFieldMapper customFieldMapper;
 
-    private final MappedFieldsTracker mappedFields = new MappedFieldsTracker();
+    private final MappedFieldsTracker mappedFields;
+    private Map<Class<?>, CustomConverter> mappingScopedConverters;
 
     private final Cache converterByDestTypeCache;
     private final Cache superTypeCache;
     private final PrimitiveOrWrapperConverter primitiveConverter;
-    private final LogMsgFactory logMsgFactory = new LogMsgFactory();
+    private final LogMsgFactory logMsgFactory;
     private final BeanContainer beanContainer;
     private final ClassMapBuilder classMapBuilder;
     private final DestBeanCreator destBeanCreator;
     private final DestBeanBuilderCreator destBeanBuilderCreator;
+    private final ClassMapPlanCompiler planCompiler;
+    private final MappingEngine engine;
+    private final ForkJoinPool collectionMappingPool;
+
+    // destination object instantiated by this processor which is currently being mapped
+    private Object createdDestObj;
 
     protected MappingProcessor(ClassMappings classMappings, Configuration globalConfiguration, CacheManager cacheMgr,
                                List<CustomConverter> customConverterObjects,
@@ -107,19 +135,44 @@ public class MappingProcessor implements Mapper {
                                Map<String, CustomConverter> customConverterObjectsWithId, BeanContainer beanContainer,
                                DestBeanCreator destBeanCreator, DestBeanBuilderCreator destBeanBuilderCreator,
                                BeanMappingGenerator beanMappingGenerator, PropertyDescriptorFactory propertyDescriptorFactory) {
-        this.classMappings = classMappings;
-        this.globalConfiguration = globalConfiguration;
-        this.customConverterObjects = customConverterObjects;
-        this.eventManager = eventManager;
-        this.customFieldMapper = customFieldMapper;
-        this.converterByDestTypeCache = cacheMgr.getCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name());
-        this.superTypeCache = cacheMgr.getCache(DozerCacheType.SUPER_TYPE_CHECK.name());
-        this.customConverterObjectsWithId = customConverterObjectsWithId;
-        this.beanContainer = beanContainer;
-        this.destBeanBuilderCreator = destBeanBuilderCreator;
-        this.classMapBuilder = new ClassMapBuilder(beanContainer, destBeanCreator, beanMappingGenerator, propertyDescriptorFactory);
-        this.primitiveConverter = new PrimitiveOrWrapperConverter(beanContainer);
-        this.destBeanCreator = destBeanCreator;
+        this(new MappingEngine(classMappings, globalConfiguration, cacheMgr, customConverterObjects, eventManager, customFieldMapper,
+                               customConverterObjectsWithId, beanContainer, destBeanCreator, destBeanBuilderCreator, beanMappingGenerator,
+                               propertyDescriptorFactory));
+    }
+
+    /**
+     * Creates a processor for a single mapping request. Only references to the shared engine state are copied,
+     * so creating a processor per request is cheap.
+     *
+     * @param engine shared engine state
+     */
+    protected MappingProcessor(MappingEngine engine) {
+        this(engine, new MappedFieldsTracker(), engine.getCollectionMappingPool());
+    }
+
+    /**
+     * Creates a processor mapping a part of a collection on behalf of another processor. Objects mapped by the parent
+     * processor are visible through the parent tracker, nested collections are mapped sequentially.
+     */
+    private MappingProcessor(MappingEngine engine, MappedFieldsTracker mappedFields, ForkJoinPool collectionMappingPool) {
+        this.engine = engine;
+        this.mappedFields = mappedFields;
+        this.collectionMappingPool = collectionMappingPool;
+        this.classMappings = engine.getClassMappings();
+        this.globalConfiguration = engine.getGlobalConfiguration();
+        this.customConverterRegistry = engine.getCustomConverterRegistry();
+        this.customConverterObjectsWithId = engine.getCustomConverterObjectsWithId();
+        this.eventManager = engine.getEventManager();
+        this.customFieldMapper = engine.getCustomFieldMapper();
+        this.converterByDestTypeCache = engine.getConverterByDestTypeCache();
+        this.superTypeCache = engine.getSuperTypeCache();
+        this.primitiveConverter = engine.getPrimitiveConverter();
+        this.logMsgFactory = engine.getLogMsgFactory();
+        this.beanContainer = engine.getBeanContainer();
+        this.classMapBuilder = engine.getClassMapBuilder();
+        this.destBeanCreator = engine.getDestBeanCreator();
+        this.destBeanBuilderCreator = engine.getDestBeanBuilderCreator();
+        this.planCompiler = engine.getPlanCompiler();
     }
 
     /* Mapper Interface Implementation */
@@ -142,6 +195,31 @@ public class MappingProcessor implements Mapper {
         mapGeneral(srcObj, null, destObj, mapId);
     }
 
+    @Override
+    public <T, C extends Collection<? super T>> C mapAllInto(Iterable<?> sources, Class<T> destinationClass, String mapId, C destination) {
+        Function<Object, T> batchMapper = batchMapper(destinationClass, mapId, false);
+        for (Object source : sources) {
+            destination.add(batchMapper.apply(source));
+        }
+        return destination;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The sources are part of the current mapping request and share the objects mapped by it, so they are mapped one at
+     * a time by this processor, even if the stream is consumed in parallel.
+     */
+    @Override
+    public <T> Stream<T> mapAll(Stream<?> sources, Class<T> destinationClass) {
+        Function<Object, T> batchMapper = batchMapper(destinationClass, null, false);
+        return sources.map(source -> {
+            synchronized (this) {
+                return batchMapper.apply(source);
+            }
+        });
+    }
+
     /**
      * Only required due to type coupling of MappingProcessor and Mapper - needs re-think
      * @return nothing
@@ -153,6 +231,33 @@ public class MappingProcessor implements Mapper {
 
     /* End of Mapper Interface Implementation */
 
+    /**
+     * Creates a function which maps source objects to new instances of destClass. The class mapping, the custom converter
+     * and the creation directive are resolved once per runtime source class and reused for all following source objects.
+     * The function is bound to this processor and must not be used concurrently.
+     *
+     * @param destClass destination class
+     * @param mapId     mapping identifier
+     * @param isolated  true if every source object is mapped as a separate mapping request, false if all of them are part
+     *                  of the current mapping request
+     * @param <T>       destination object type
+     * @return function mapping a single source object
+     */
+    <T> Function<Object, T> batchMapper(final Class<T> destClass, final String mapId, final boolean isolated) {
+        if (destClass == null) {
+            MappingUtils.throwMappingException("Destination class must not be null");
+        }
+        Map<Class<?>, ResolvedMapping> resolvedMappings = new HashMap<>();
+        return srcObj -> {
+            MappingValidator.validateMappingRequest(srcObj);
+            if (isolated) {
+                mappedFields.clear();
+                mappingScopedConverters = null;
+            }
+            return mapGeneral(srcObj, destClass, null, mapId, resolvedMappings);
+        };
+    }
+
     /**
      * Single point of entry for atomic mapping operations
      *
@@ -164,6 +269,11 @@ public class MappingProcessor implements Mapper {
      * @return new or updated destination object
      */
     private <T> T mapGeneral(Object srcObj, final Class<T> destClass, final T destObj, final String mapId) {
+        return mapGeneral(srcObj, destClass, destObj, mapId, null);
+    }
+
+    private <T> T mapGeneral(Object srcObj, final Class<T> destClass, final T destObj, final String mapId,
+                             Map<Class<?>, ResolvedMapping> resolvedMappings) {
         srcObj = MappingUtils.deProxy(srcObj, beanContainer);
 
         Class<T> destType;
@@ -178,16 +288,20 @@ public class MappingProcessor implements Mapper {
 
         ClassMap classMap = null;
         try {
-            classMap = getClassMap(srcObj.getClass(), destType, mapId);
-
+            ResolvedMapping resolvedMapping = resolvedMappings == null ? null : resolvedMappings.get(srcObj.getClass());
+            if (resolvedMapping == null) {
+                resolvedMapping = resolveMapping(srcObj.getClass(), destType, mapId);
+                if (resolvedMappings != null) {
+                    resolvedMappings.put(srcObj.getClass(), resolvedMapping);
+                }
+            }
+            classMap = resolvedMapping.classMap;
 
-            eventManager.on(new DefaultEvent(EventTypes.MAPPING_STARTED, classMap, null, srcObj, result, null));
+            if (eventManager.isEnabled(EventTypes.MAPPING_STARTED)) {
+                eventManager.on(new DefaultEvent(EventTypes.MAPPING_STARTED, classMap, null, srcObj, result, null));
+            }
 
-            // TODO Check if any proxy issues are here
-            // Check to see if custom converter has been specified for this mapping
-            // combination. If so, just use it.
-            Class<?> converterClass = MappingUtils.findCustomConverter(converterByDestTypeCache, classMap.getCustomConverters(), srcObj
-                    .getClass(), destType);
+            Class<?> converterClass = resolvedMapping.converterClass;
 
             if (destObj == null) {
                 // If this is a nested MapperAware conversion this mapping can be already processed
@@ -202,20 +316,30 @@ public class MappingProcessor implements Mapper {
                 return (T)mapUsingCustomConverter(converterClass, srcObj.getClass(), srcObj, destType, result, null, true);
             }
 
-            BeanCreationDirective creationDirective =
-                    new BeanCreationDirective(srcObj, classMap.getSrcClassToMap(), classMap.getDestClassToMap(), destType,
-                                              classMap.getDestClassBeanFactory(), classMap.getDestClassBeanFactoryId(), classMap.getDestClassCreateMethod(),
-                                              classMap.getDestClass().isSkipConstructor());
+            BeanCreationDirective creationDirective = resolvedMapping.newCreationDirective(srcObj);
 
             result = createByCreationDirectiveAndMap(creationDirective, classMap, srcObj, result, false, null);
         } catch (Throwable e) {
             MappingUtils.throwMappingException(e);
         }
-        eventManager.on(new DefaultEvent(EventTypes.MAPPING_FINISHED, classMap, null, srcObj, result, null));
+        if (eventManager.isEnabled(EventTypes.MAPPING_FINISHED)) {
+            eventManager.on(new DefaultEvent(EventTypes.MAPPING_FINISHED, classMap, null, srcObj, result, null));
+        }
 
         return result;
     }
 
+    private ResolvedMapping resolveMapping(Class<?> srcClass, Class<?> destType, String mapId) {
+        ClassMap classMap = getClassMap(srcClass, destType, mapId);
+
+        // TODO Check if any proxy issues are here
+        // Check to see if custom converter has been specified for this mapping
+        // combination. If so, just use it.
+        Class<?> converterClass = MappingUtils.findCustomConverter(converterByDestTypeCache, classMap.getCustomConverters(), srcClass, destType);
+
+        return new ResolvedMapping(classMap, converterClass, destType);
+    }
+
     /**
      * Create builder or target object if needed and call
      * {@link MappingProcessor#mapToDestObject(com.github.dozermapper.core.classmap.ClassMap, Object, Object, boolean, String)} function with
@@ -234,7 +358,20 @@ public class MappingProcessor implements Mapper {
             BeanBuilder beanBuilder = destBeanBuilderCreator.create(creationDirective);
             if (beanBuilder == null) {
                 result = (T)destBeanCreator.create(creationDirective);
-                mapToDestObject(classMap, srcObj, result, bypassSuperMappings, mapId);
+                if (classMap.isTrackReferences()) {
+                    // another worker mapping the same collection may have created a destination object already
+                    Object claimed = mappedFields.claim(srcObj, result, mapId);
+                    if (claimed != result) {
+                        return (T)claimed;
+                    }
+                }
+                Object enclosingCreatedDestObj = createdDestObj;
+                createdDestObj = result;
+                try {
+                    mapToDestObject(classMap, srcObj, result, bypassSuperMappings, mapId);
+                } finally {
+                    createdDestObj = enclosingCreatedDestObj;
+                }
             } else {
                 mapToDestObject(classMap, srcObj, beanBuilder, bypassSuperMappings, mapId);
                 result = (T)beanBuilder.build();
@@ -261,24 +398,34 @@ public class MappingProcessor implements Mapper {
             result = javax.xml.bind.JAXBElement.class.cast(destObj).getValue();
         }
 
-        map(classMap, srcObj, result, bypassSuperMappings, new ArrayList<>(), mapId);
+        map(classMap, srcObj, result, bypassSuperMappings, null, null, mapId);
     }
 
-    private void map(ClassMap classMap, Object srcObj, Object destObj, boolean bypassSuperMappings, List<String> mappedParentFields, String mapId) {
+    /**
+     * Maps the fields of the class map, processing super class mappings first unless bypassed
+     *
+     * @param mappedParentFields ordinals of the destination fields already mapped by super class mappings, null if none
+     * @param fieldOrdinals      ordinals of the field maps in the ordinal space of the mapped sub class map, null to use
+     *                           the ordinals of the class map itself
+     */
+    private void map(ClassMap classMap, Object srcObj, Object destObj, boolean bypassSuperMappings, BitSet mappedParentFields,
+                     int[] fieldOrdinals, String mapId) {
         srcObj = MappingUtils.deProxy(srcObj, beanContainer);
 
-        // 1596766 - Recursive object mapping issue. Prevent recursive mapping
-        // infinite loop. Keep a record of mapped fields
-        // by storing the id of the sourceObj and the destObj to be mapped. This can
-        // be referred to later to avoid recursive mapping loops
-        mappedFields.put(srcObj, destObj, mapId);
-
         // If class map hasn't already been determined, find the appropriate one for
         // the src/dest object combination
         if (classMap == null) {
             classMap = getClassMap(srcObj.getClass(), destObj.getClass(), mapId);
         }
 
+        // 1596766 - Recursive object mapping issue. Prevent recursive mapping
+        // infinite loop. Keep a record of mapped fields
+        // by storing the id of the sourceObj and the destObj to be mapped. This can
+        // be referred to later to avoid recursive mapping loops
+        if (classMap.isTrackReferences()) {
+            mappedFields.put(srcObj, destObj, mapId);
+        }
+
         Class<?> srcClass = srcObj.getClass();
         Class<?> destClass = destObj.getClass();
 
@@ -292,6 +439,8 @@ public class MappingProcessor implements Mapper {
         }
 
         // Now check for super class mappings.  Process super class mappings first.
+        BitSet parentFields = mappedParentFields;
+        int[] ordinals = fieldOrdinals;
         if (!bypassSuperMappings) {
             Collection<ClassMap> superMappings = new ArrayList<>();
 
@@ -301,19 +450,50 @@ public class MappingProcessor implements Mapper {
             superMappings.addAll(superClasses);
             //superMappings.addAll(interfaceMappings);
             if (!superMappings.isEmpty()) {
-                processSuperTypeMapping(superMappings, srcObj, destObj, mappedParentFields, mapId);
+                parentFields = new BitSet();
+                processSuperTypeMapping(classMap, superMappings, srcObj, destObj, parentFields, mapId);
             }
         }
+        if (parentFields != null && ordinals == null) {
+            ordinals = classMap.getFieldMapOrdinals();
+        }
+
+        ClassMapPlan plan = getClassMapPlan(classMap, srcClass, destObj);
 
         // Perform mappings for each field. Iterate through Fields Maps for this class mapping
+        int fieldIndex = 0;
         for (FieldMap fieldMapping : classMap.getFieldMaps()) {
+            FieldMapPlan fieldPlan = plan != null ? plan.getFieldPlan(fieldIndex, fieldMapping) : null;
+            int ordinal = ordinals != null ? ordinals[fieldIndex] : -1;
+            fieldIndex++;
+
             //Bypass field if it has already been mapped as part of super class mappings.
-            String key = MappingUtils.getMappedParentFieldKey(destObj, fieldMapping);
-            if (mappedParentFields != null && mappedParentFields.contains(key)) {
+            if (parentFields != null && parentFields.get(ordinal)) {
                 continue;
             }
-            mapField(fieldMapping, srcObj, destObj);
+
+            if (fieldPlan != null) {
+                mapCompiledField(fieldPlan, srcObj, destObj);
+            } else {
+                mapField(fieldMapping, srcObj, destObj);
+            }
+        }
+    }
+
+    /**
+     * Resolves the compiled plan for the class map, if compiled plans are enabled and can be used for this mapping.
+     *
+     * @param classMap class map being mapped
+     * @param srcClass runtime source class
+     * @param destObj  destination object or builder
+     * @return compiled plan or null if all fields have to be mapped reflectively
+     */
+    private ClassMapPlan getClassMapPlan(ClassMap classMap, Class<?> srcClass, Object destObj) {
+        if (planCompiler == null || customFieldMapper != null || destObj instanceof BeanBuilder) {
+            return null;
         }
+
+        return planCompiler.getPlan(classMap, srcClass, destObj.getClass());
     }
 
     /**
@@ -346,7 +526,12 @@ public class MappingProcessor implements Mapper {
             }
 
             if (!fieldMapped) {
-                if (fieldMapping.getDestFieldType() != null && ITERATE.equals(fieldMapping.getDestFieldType())) {
+                LazyLoadPolicy lazyLoadPolicy = fieldMapping.getLazyLoadPolicy() != null ? fieldMapping.getLazyLoadPolicy() : engine.getLazyLoadPolicy();
+                if (lazyLoadPolicy != LazyLoadPolicy.INITIALIZE && srcFieldValue != null
+                    && !beanContainer.getProxyResolver().isInitialized(srcFieldValue)) {
+                    // never touch values which are not loaded yet, that would load them
+                    mapUninitializedValue(srcObj, destObj, srcFieldValue, fieldMapping, lazyLoadPolicy);
+                } else if (fieldMapping.getDestFieldType() != null && ITERATE.equals(fieldMapping.getDestFieldType())) {
                     // special logic for iterate feature
                     mapFromIterateMethodFieldMap(srcObj, destObj, srcFieldValue, fieldMapping);
                 } else {
@@ -357,24 +542,102 @@ public class MappingProcessor implements Mapper {
             }
 
         } catch (Throwable e) {
-            log.error(logMsgFactory.createFieldMappingErrorMsg(srcObj, fieldMapping, srcFieldValue, destObj), e);
+            handleFieldMappingError(fieldMapping, srcObj, srcFieldValue, destObj, e);
+        }
+    }
 
-            // check error handling policy.
-            if (fieldMapping.isStopOnErrors()) {
-                MappingUtils.throwMappingException(e);
-            } else {
-                // check if any Exceptions should be allowed to be thrown
-                if (!fieldMapping.getClassMap().getAllowedExceptions().isEmpty() && e.getCause() instanceof InvocationTargetException) {
-                    Throwable thrownType = ((InvocationTargetException)e.getCause()).getTargetException();
-                    Class<? extends Throwable> exceptionClass = thrownType.getClass();
-                    if (fieldMapping.getClassMap().getAllowedExceptions().contains(exceptionClass)) {
-                        throw (RuntimeException)thrownType;
-                    }
+    /**
+     * Perform mapping of a field using its compiled accessors. Values are copied as is, as compiled field maps
+     * are only created between properties of the same primitive, wrapper or String type.
+     *
+     * @param fieldPlan Compiled field mapping.
+     * @param srcObj    Source object.
+     * @param destObj   Destination object.
+     */
+    private void mapCompiledField(FieldMapPlan fieldPlan, Object srcObj, Object destObj) {
+        FieldMap fieldMapping = fieldPlan.getFieldMap();
+        Object srcFieldValue = null;
+        try {
+            srcFieldValue = fieldPlan.readSrcValue(srcObj);
+            writeDestinationValue(destObj, srcFieldValue, fieldMapping, fieldPlan, srcObj);
+
+            if (log.isDebugEnabled()) {
+                log.debug(logMsgFactory.createFieldMappingSuccessMsg(srcObj.getClass(), destObj.getClass(), fieldMapping.getSrcFieldName(),
+                                                                     fieldMapping.getDestFieldName(), srcFieldValue, srcFieldValue,
+                                                                     fieldMapping.getClassMap().getMapId()));
+            }
+        } catch (Throwable e) {
+            handleFieldMappingError(fieldMapping, srcObj, srcFieldValue, destObj, e);
+        }
+    }
+
+    private void handleFieldMappingError(FieldMap fieldMapping, Object srcObj, Object srcFieldValue, Object destObj, Throwable e) {
+        log.error(logMsgFactory.createFieldMappingErrorMsg(srcObj, fieldMapping, srcFieldValue, destObj), e);
+
+        // check error handling policy.
+        if (fieldMapping.isStopOnErrors()) {
+            MappingUtils.throwMappingException(e);
+        } else {
+            // check if any Exceptions should be allowed to be thrown
+            if (!fieldMapping.getClassMap().getAllowedExceptions().isEmpty() && e.getCause() instanceof InvocationTargetException) {
+                Throwable thrownType = ((InvocationTargetException)e.getCause()).getTargetException();
+                Class<? extends Throwable> exceptionClass = thrownType.getClass();
+                if (fieldMapping.getClassMap().getAllowedExceptions().contains(exceptionClass)) {
+                    throw (RuntimeException)thrownType;
                 }
             }
         }
     }
 
+    /**
+     * Maps a source value which is not loaded yet according to the lazy load policy, without loading it.
+     *
+     * @param srcObj        Source object.
+     * @param destObj       Destination object.
+     * @param srcFieldValue Uninitialized source value.
+     * @param fieldMapping  Field mapping.
+     * @param policy        Lazy load policy of the field mapping.
+     */
+    private void mapUninitializedValue(Object srcObj, Object destObj, Object srcFieldValue, FieldMap fieldMapping, LazyLoadPolicy policy) {
+        switch (policy) {
+            case IDENTIFIER:
+                DozerProxyResolver proxyResolver = beanContainer.getProxyResolver();
+                Object identifier = proxyResolver.getIdentifier(srcFieldValue);
+                if (identifier != null) {
+                    Object stub = createIdentifierStub(destObj, identifier, proxyResolver.getIdentifierProperty(srcFieldValue), fieldMapping);
+                    writeDestinationValue(destObj, stub, fieldMapping, srcObj);
+                }
+                break;
+            case CALLBACK:
+                if (eventManager.isEnabled(EventTypes.MAPPING_UNINITIALIZED_SRC_VALUE)) {
+                    eventManager.on(new DefaultEvent(EventTypes.MAPPING_UNINITIALIZED_SRC_VALUE, fieldMapping.getClassMap(), fieldMapping, srcObj,
+                                                     destObj, srcFieldValue, null));
+                }
+                break;
+            default:
+                break;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Field {} of {} is not loaded, it was mapped according to lazy load policy {}", fieldMapping.getSrcFieldName(),
+                      srcObj.getClass(), policy);
+        }
+    }
+
+    private Object createIdentifierStub(Object destObj, Object identifier, String identifierProperty, FieldMap fieldMapping) {
+        Class<?> destFieldType = fieldMapping.getDestFieldType(BuilderUtil.unwrapDestClassFromBuilder(destObj));
+        Object stub = destBeanCreator.create(new BeanCreationDirective(null, identifier.getClass(), destFieldType, destFieldType, null, null,
+                                                                       fieldMapping.getDestFieldCreateMethod(), false, destObj,
+                                                                       fieldMapping.getDestFieldName()));
+
+        JavaBeanPropertyDescriptor idDescriptor = engine.getIdentifierDescriptor(destFieldType, identifierProperty);
+        Class<?> idType = idDescriptor.getPropertyType();
+        Object id = ClassUtils.isAssignable(identifier.getClass(), idType) ? identifier : primitiveConverter.convert(identifier, idType, null);
+        idDescriptor.setPropertyValue(stub, id, fieldMapping, false);
+
+        return stub;
+    }
+
     private void mapFromFieldMap(Object srcObj, Object destObj, Object srcFieldValue, FieldMap fieldMapping) {
         Class<?> destFieldType;
         if (fieldMapping instanceof CustomGetSetMethodFieldMap) {
@@ -405,7 +668,7 @@ public class MappingProcessor implements Mapper {
             destFieldValue = mapOrRecurseObject(srcObj, srcFieldValue, destFieldType, fieldMapping, destObj);
         } else {
             Class<?> srcFieldClass = srcFieldValue != null ? srcFieldValue.getClass() : fieldMapping.getSrcFieldType(srcObj.getClass());
-            destFieldValue = mapUsingCustomConverter(MappingUtils.loadClass(fieldMapping.getCustomConverter(), beanContainer), srcFieldClass,
+            destFieldValue = mapUsingCustomConverter(fieldMapping.getCustomConverterClass(), srcFieldClass,
                                                      srcFieldValue, destFieldType, destObj, fieldMapping, false);
         }
 
@@ -432,6 +695,18 @@ public class MappingProcessor implements Mapper {
             return null;
         }
 
+        // immutable values can be shared, converting or mapping them would only create an equal copy, unless the user
+        // configured how to map them
+        if (fieldMap.getDestHintContainer() == null && MappingUtils.isBlankOrNull(fieldMap.getMapId())
+            && ClassUtils.primitiveToWrapper(destFieldType) == srcFieldClass && ImmutableTypes.isImmutable(srcFieldClass)
+            && !classMappings.containsConfigured(srcFieldClass, destFieldType)) {
+            //#1841448 - collection elements are not trimmed when written, so trim them here
+            if (fieldMap.isTrimStrings() && srcFieldClass == String.class) {
+                return ((String)srcFieldValue).trim();
+            }
+            return srcFieldValue;
+        }
+
         String srcFieldName = fieldMap.getSrcFieldName();
         String destFieldName = fieldMap.getDestFieldName();
 
@@ -478,7 +753,7 @@ public class MappingProcessor implements Mapper {
                 convertSrcFieldValue = ((String)srcFieldValue).trim();
             }
 
-            DateFormatContainer dfContainer = new DateFormatContainer(fieldMap.getDateFormat());
+            DateFormatContainer dfContainer = fieldMap.getDateFormatContainer();
 
             if (fieldMap instanceof MapFieldMap && !primitiveConverter.accepts(destFieldType)) {
                 // This handles a very special/rare use case(see indexMapping.xml + unit
@@ -514,22 +789,7 @@ public class MappingProcessor implements Mapper {
     }
 
     private <T extends Enum<T>> T mapEnum(Enum<T> srcFieldValue, Class<T> destFieldType) {
-        String name = srcFieldValue.name();
-        return Enum.valueOf(getSerializableEnumClass(destFieldType), name);
-    }
-
-    private <T extends Enum<T>> Class<T> getSerializableEnumClass(Class<T> enumClass) {
-        if (checkIfOverriddenEnum(enumClass)) {
-            /* This cast is case because of the check performed by the checkIfOverridenEnum function. */
-            @SuppressWarnings("unchecked")
-            Class<T> castedSuperclass = (Class<T>)enumClass.getSuperclass();
-            return castedSuperclass;
-        }
-        return enumClass;
-    }
-
-    private <T extends Enum<T>> boolean checkIfOverriddenEnum(Class<T> enumClass) {
-        return !Enum.class.equals(enumClass.getSuperclass());
+        return EnumMappings.map(srcFieldValue, destFieldType);
     }
 
     private Object mapCustomObject(FieldMap fieldMap, Object destObj, Class<?> destFieldType, String destFieldName, Object srcFieldValue) {
@@ -687,6 +947,8 @@ public class MappingProcessor implements Mapper {
 
         if (destEntryType.isAssignableFrom(srcEntryType) && isFinal && (isPrimitiveArray || isCopyByReference)) {
             return addArrayContentCopy(fieldMap, size, srcCollectionValue, destObj, destEntryType);
+        } else if (isPrimitiveArray && fieldMap.getDestHintContainer() == null && isDirectlyCopyable(fieldMap, srcEntryType, destEntryType)) {
+            return PrimitiveArrayUtils.copy(srcCollectionValue, destEntryType, fieldMap.getDestValue(destObj));
         } else if (isPrimitiveArray) {
             return addToPrimitiveArray(srcObj, fieldMap, size, srcCollectionValue, destObj, destEntryType);
         } else {
@@ -710,9 +972,7 @@ public class MappingProcessor implements Mapper {
             srcFieldValue = IteratorUtils.toList((Iterator<?>)srcFieldValue);
         }
         if (srcFieldValue != null) {
-            for (int i = 0; i < CollectionUtils.getLengthOfCollection(srcFieldValue); i++) {
-                final Object value = CollectionUtils.getValueFromCollection(srcFieldValue, i);
-
+            for (Object value : CollectionUtils.asIterable(srcFieldValue)) {
                 // map this value
                 if (fieldMapping.getDestHintContainer() == null) {
                     MappingUtils.throwMappingException("<field type=\"iterate\"> must have a source or destination type hint");
@@ -763,10 +1023,10 @@ public class MappingProcessor implements Mapper {
             System.arraycopy(field, 0, result, 0, arraySize);
         }
         // primitive arrays are ALWAYS cumulative
+        boolean isCopyByReference = globalConfiguration.getCopyByReferences().contains(srcCollectionValue.getClass());
         for (int i = 0; i < size; i++) {
-            CopyByReferenceContainer copyByReferences = globalConfiguration.getCopyByReferences();
             Object toValue;
-            if (srcCollectionValue != null && copyByReferences.contains(srcCollectionValue.getClass())) {
+            if (isCopyByReference) {
                 toValue = srcCollectionValue;
             } else {
                 toValue = mapOrRecurseObject(srcObj, Array.get(srcCollectionValue, i), destEntryType, fieldMap, destObj);
@@ -804,36 +1064,40 @@ public class MappingProcessor implements Mapper {
         }
         Object destValue;
 
+        ElementIndex elementIndex = RelationshipType.NON_CUMULATIVE.equals(fieldMap.getRelationshipType())
+                                    ? new ElementIndex(fieldMap.getRelationshipKey(), result) : null;
+
+        Object[] destValues = mapElementsInParallel(srcObj, fieldMap, srcCollectionValue, destObj, null);
+        int valueIndex = 0;
         Class<?> destEntryType = null;
         Class<?> prevDestEntryType = null;
         for (Object srcValue : srcCollectionValue) {
-            if (destEntryType == null
-                || (fieldMap.getDestHintContainer() != null && fieldMap.getDestHintContainer().hasMoreThanOneHint())) {
-                destEntryType = determineCollectionItemType(fieldMap, destObj, srcValue, prevDestEntryType);
-            }
-
-            CopyByReferenceContainer copyByReferences = globalConfiguration.getCopyByReferences();
-            if (srcValue != null && copyByReferences.contains(srcValue.getClass())) {
-                destValue = srcValue;
+            if (destValues != null) {
+                destValue = destValues[valueIndex++];
             } else {
-                destValue = mapOrRecurseObject(srcObj, srcValue, destEntryType, fieldMap, destObj);
+                if (destEntryType == null
+                    || (fieldMap.getDestHintContainer() != null && fieldMap.getDestHintContainer().hasMoreThanOneHint())) {
+                    destEntryType = determineCollectionItemType(fieldMap, destObj, srcValue, prevDestEntryType);
+                }
+
+                destValue = mapCollectionElement(srcObj, srcValue, destEntryType, fieldMap, destObj);
+                prevDestEntryType = destEntryType;
             }
-            prevDestEntryType = destEntryType;
 
-            if (RelationshipType.NON_CUMULATIVE.equals(fieldMap.getRelationshipType())
-                && result.contains(destValue)) {
-                List<Object> resultAsList = new ArrayList<>(result);
-                int index = resultAsList.indexOf(destValue);
+            if (elementIndex != null && elementIndex.contains(destValue)) {
                 // perform an update if complex type - can't map strings
-                Object obj = resultAsList.get(index);
+                Object obj = elementIndex.get(destValue);
                 // make sure it is not a String
                 if (!obj.getClass().isAssignableFrom(String.class)) {
-                    mapToDestObject(null, srcValue, obj, false, fieldMap.getMapId());
+                    updateElement(elementIndex, srcValue, obj, fieldMap);
                     mappedElements.add(obj);
                 }
             } else {
                 if (destValue != null || fieldMap.isDestMapNull()) {
                     result.add(destValue);
+                    if (elementIndex != null) {
+                        elementIndex.add(destValue);
+                    }
                 }
                 mappedElements.add(destValue);
             }
@@ -868,35 +1132,40 @@ public class MappingProcessor implements Mapper {
         result = prepareDestinationList(srcCollectionValue, field);
 
         Object destValue;
+        ElementIndex elementIndex = RelationshipType.NON_CUMULATIVE.equals(fieldMap.getRelationshipType())
+                                    ? new ElementIndex(fieldMap.getRelationshipKey(), result) : null;
+
+        Object[] destValues = mapElementsInParallel(srcObj, fieldMap, srcCollectionValue, destObj, destEntryType);
+        int valueIndex = 0;
         Class<?> prevDestEntryType = null;
         for (Object srcValue : srcCollectionValue) {
-            if (destEntryType == null
-                || (fieldMap.getDestHintContainer() != null && fieldMap.getDestHintContainer().hasMoreThanOneHint())) {
-                destEntryType = determineCollectionItemType(fieldMap, destObj, srcValue, prevDestEntryType);
-            }
-
-            CopyByReferenceContainer copyByReferences = globalConfiguration.getCopyByReferences();
-            if (srcValue != null && copyByReferences.contains(srcValue.getClass())) {
-                destValue = srcValue;
+            if (destValues != null) {
+                destValue = destValues[valueIndex++];
             } else {
-                destValue = mapOrRecurseObject(srcObj, srcValue, destEntryType, fieldMap, destObj);
+                if (destEntryType == null
+                    || (fieldMap.getDestHintContainer() != null && fieldMap.getDestHintContainer().hasMoreThanOneHint())) {
+                    destEntryType = determineCollectionItemType(fieldMap, destObj, srcValue, prevDestEntryType);
+                }
+
+                destValue = mapCollectionElement(srcObj, srcValue, destEntryType, fieldMap, destObj);
+                prevDestEntryType = destEntryType;
             }
-            prevDestEntryType = destEntryType;
 
-            if (RelationshipType.NON_CUMULATIVE.equals(fieldMap.getRelationshipType())
-                && result.contains(destValue)) {
-                int index = result.indexOf(destValue);
+            if (elementIndex != null && elementIndex.contains(destValue)) {
                 // perform an update if complex type - can't map strings
-                Object obj = result.get(index);
+                Object obj = elementIndex.get(destValue);
                 // make sure it is not a String
                 if (obj != null && !obj.getClass().isAssignableFrom(String.class)) {
-                    mapToDestObject(null, srcValue, obj, false, fieldMap.getMapId());
+                    updateElement(elementIndex, srcValue, obj, fieldMap);
                     mappedElements.add(obj);
                 }
             } else {
                 // respect null mappings
                 if (destValue != null || fieldMap.isDestMapNull()) {
                     result.add(destValue);
+                    if (elementIndex != null) {
+                        elementIndex.add(destValue);
+                    }
                 }
                 mappedElements.add(destValue);
             }
@@ -910,6 +1179,105 @@ public class MappingProcessor implements Mapper {
         return result;
     }
 
+    /**
+     * Maps the source element onto the matching destination element in place. The update may change the key of the
+     * element, so it is indexed again afterwards.
+     */
+    private void updateElement(ElementIndex elementIndex, Object srcValue, Object destElement, FieldMap fieldMap) {
+        elementIndex.remove(destElement);
+        mapToDestObject(null, srcValue, destElement, false, fieldMap.getMapId());
+        elementIndex.add(destElement);
+    }
+
+    private Object mapCollectionElement(Object srcObj, Object srcValue, Class<?> destEntryType, FieldMap fieldMap, Object destObj) {
+        CopyByReferenceContainer copyByReferences = globalConfiguration.getCopyByReferences();
+        if (srcValue != null && copyByReferences.contains(srcValue.getClass())) {
+            return srcValue;
+        }
+
+        return mapOrRecurseObject(srcObj, srcValue, destEntryType, fieldMap, destObj);
+    }
+
+    /**
+     * Maps the elements of a large collection on the collection mapping pool. Element types are determined upfront on
+     * the calling thread, the elements are then mapped in contiguous chunks by processors sharing a concurrent tracker,
+     * which falls back to the tracker of this processor. So an object referenced from several chunks is still mapped
+     * once. The shared tracker is merged back once all chunks completed. As soon as one chunk fails, the remaining
+     * chunks are cancelled and chunks already running stop before their next element.
+     *
+     * @return mapped elements in iteration order or null if the collection has to be mapped sequentially
+     */
+    private Object[] mapElementsInParallel(Object srcObj, FieldMap fieldMap, Collection<?> srcCollectionValue, Object destObj,
+                                           Class<?> destEntryType) {
+        int size = srcCollectionValue.size();
+        if (collectionMappingPool == null || size < engine.getParallelCollectionThreshold()) {
+            return null;
+        }
+
+        Object[] srcValues = srcCollectionValue.toArray();
+        Class<?>[] destEntryTypes = new Class<?>[size];
+        Class<?> prevDestEntryType = null;
+        for (int i = 0; i < size; i++) {
+            if (destEntryType == null
+                || (fieldMap.getDestHintContainer() != null && fieldMap.getDestHintContainer().hasMoreThanOneHint())) {
+                destEntryType = determineCollectionItemType(fieldMap, destObj, srcValues[i], prevDestEntryType);
+            }
+            destEntryTypes[i] = destEntryType;
+            prevDestEntryType = destEntryType;
+        }
+
+        int chunkCount = Math.min(size, collectionMappingPool.getParallelism());
+        int chunkSize = (size + chunkCount - 1) / chunkCount;
+        List<ForkJoinTask<MappingProcessor>> chunks = new ArrayList<>(chunkCount);
+        MappedFieldsTracker chunkMappedFields = new ConcurrentMappedFieldsTracker(mappedFields);
+        AtomicBoolean failed = new AtomicBoolean();
+        Object[] destValues = new Object[size];
+        for (int start = 0; start < size; start += chunkSize) {
+            int from = start;
+            int to = Math.min(size, start + chunkSize);
+            MappingProcessor worker = new MappingProcessor(engine, chunkMappedFields, null);
+            chunks.add(collectionMappingPool.submit(() -> worker.mapChunk(srcObj, srcValues, destEntryTypes, destValues, from, to, fieldMap, destObj,
+                                                                          failed)));
+        }
+
+        for (ForkJoinTask<MappingProcessor> chunk : chunks) {
+            try {
+                chunk.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelChunks(chunks, failed);
+                MappingUtils.throwMappingException(e);
+            } catch (ExecutionException e) {
+                cancelChunks(chunks, failed);
+                MappingUtils.throwMappingException(e.getCause());
+            }
+        }
+        mappedFields.putAll(chunkMappedFields);
+
+        return destValues;
+    }
+
+    private MappingProcessor mapChunk(Object srcObj, Object[] srcValues, Class<?>[] destEntryTypes, Object[] destValues, int from, int to,
+                                      FieldMap fieldMap, Object destObj, AtomicBoolean failed) {
+        try {
+            for (int i = from; i < to && !failed.get(); i++) {
+                destValues[i] = mapCollectionElement(srcObj, srcValues[i], destEntryTypes[i], fieldMap, destObj);
+            }
+        } catch (RuntimeException e) {
+            failed.set(true);
+            throw e;
+        }
+
+        return this;
+    }
+
+    private static void cancelChunks(List<ForkJoinTask<MappingProcessor>> chunks, AtomicBoolean failed) {
+        failed.set(true);
+        for (ForkJoinTask<MappingProcessor> chunk : chunks) {
+            chunk.cancel(true);
+        }
+    }
+
     private Class<?> determineCollectionItemType(FieldMap fieldMap, Object destObj, Object srcValue, Class<?> prevDestEntryType) {
         if (srcValue == null && fieldMap.getDestHintType(destObj.getClass()) != null) {
             // try to get a possible configured dest hint for the dest obj
@@ -925,14 +1293,12 @@ public class MappingProcessor implements Mapper {
     }
 
     static void removeOrphans(Collection<?> mappedElements, List<Object> result) {
-        for (Iterator<?> iterator = result.iterator(); iterator.hasNext();) {
-            Object object = iterator.next();
-            if (!mappedElements.contains(object)) {
-                iterator.remove();
-            }
-        }
+        Set<Object> mapped = new HashSet<>(mappedElements);
+        result.removeIf(object -> !mapped.contains(object));
+
+        Set<Object> retained = new HashSet<>(result);
         for (Object object : mappedElements) {
-            if (!result.contains(object)) {
+            if (retained.add(object)) {
                 result.add(object);
             }
         }
@@ -969,14 +1335,46 @@ public class MappingProcessor implements Mapper {
         }
         List<?> srcValueList;
         if (CollectionUtils.isPrimitiveArray(srcCollectionValue.getClass())) {
-            srcValueList = CollectionUtils.convertPrimitiveArrayToList(srcCollectionValue);
+            List<Object> boxedValues = CollectionUtils.convertPrimitiveArrayToList(srcCollectionValue);
+            Class<?> srcEntryType = srcCollectionValue.getClass().getComponentType();
+            if (!RelationshipType.NON_CUMULATIVE.equals(fieldMap.getRelationshipType())
+                && (fieldMap.getDestHintContainer() == null || !fieldMap.getDestHintContainer().hasMoreThanOneHint())
+                && ClassUtils.primitiveToWrapper(srcEntryType) == ClassUtils.primitiveToWrapper(destEntryType)
+                && isDirectlyCopyable(fieldMap, srcEntryType, destEntryType)) {
+                return addAllToList(fieldMap, boxedValues, destObj);
+            }
+            srcValueList = boxedValues;
         } else {
             srcValueList = Arrays.asList((Object[])srcCollectionValue);
         }
         return addOrUpdateToList(srcObj, fieldMap, srcValueList, destObj, destEntryType);
     }
 
+    /**
+     * Checks whether the elements of a primitive array can be copied without mapping them one by one, which is the case
+     * for widening and boxing conversions no custom converter is registered for.
+     */
+    private boolean isDirectlyCopyable(FieldMap fieldMap, Class<?> srcEntryType, Class<?> destEntryType) {
+        return PrimitiveArrayUtils.isCopyable(srcEntryType, destEntryType)
+               && MappingUtils.determineCustomConverter(fieldMap, converterByDestTypeCache, fieldMap.getClassMap().getCustomConverters(),
+                                                        ClassUtils.primitiveToWrapper(srcEntryType), destEntryType) == null;
+    }
+
+    private List<?> addAllToList(FieldMap fieldMap, List<Object> srcValueList, Object destObj) {
+        List<Object> result = (List<Object>)prepareDestinationList(srcValueList, fieldMap.getDestValue(destObj));
+        result.addAll(srcValueList);
+        if (fieldMap.isRemoveOrphans()) {
+            removeOrphans(srcValueList, result);
+        }
+
+        return result;
+    }
+
     private void writeDestinationValue(Object destObj, Object destFieldValue, FieldMap fieldMap, Object srcObj) {
+        writeDestinationValue(destObj, destFieldValue, fieldMap, null, srcObj);
+    }
+
+    private void writeDestinationValue(Object destObj, Object destFieldValue, FieldMap fieldMap, FieldMapPlan fieldPlan, Object srcObj) {
         boolean bypass = false;
         // don't map null to dest field if map-null="false"
         if (destFieldValue == null && !fieldMap.isDestMapNull()) {
@@ -995,16 +1393,39 @@ public class MappingProcessor implements Mapper {
         }
 
         if (!bypass) {
-            eventManager.on(new DefaultEvent(EventTypes.MAPPING_PRE_WRITING_DEST_VALUE, fieldMap.getClassMap(), fieldMap, srcObj,
-                                             destObj, destFieldValue));
+            if (eventManager.isEnabled(EventTypes.MAPPING_PRE_WRITING_DEST_VALUE)) {
+                eventManager.on(new DefaultEvent(EventTypes.MAPPING_PRE_WRITING_DEST_VALUE, fieldMap.getClassMap(), fieldMap, srcObj,
+                                                 destObj, destFieldValue));
+            }
 
-            fieldMap.writeDestValue(destObj, destFieldValue);
+            boolean readBeforeWrite = isReadDestBeforeWrite(destObj, destFieldValue, fieldMap);
+            if (fieldPlan != null) {
+                fieldPlan.writeDestValue(destObj, destFieldValue, readBeforeWrite);
+            } else {
+                fieldMap.writeDestValue(destObj, destFieldValue, readBeforeWrite);
+            }
 
-            eventManager.on(new DefaultEvent(EventTypes.MAPPING_POST_WRITING_DEST_VALUE, fieldMap.getClassMap(), fieldMap, srcObj,
-                                             destObj, destFieldValue));
+            if (eventManager.isEnabled(EventTypes.MAPPING_POST_WRITING_DEST_VALUE)) {
+                eventManager.on(new DefaultEvent(EventTypes.MAPPING_POST_WRITING_DEST_VALUE, fieldMap.getClassMap(), fieldMap, srcObj,
+                                                 destObj, destFieldValue));
+            }
         }
     }
 
+    /**
+     * Determines whether the current destination value has to be read to skip writing the same reference again. Objects
+     * just instantiated by this processor only hold values assigned by their constructor, so immutable values are
+     * written without reading them first. Other values may have been derived from the current value, e.g. collections.
+     */
+    private boolean isReadDestBeforeWrite(Object destObj, Object destFieldValue, FieldMap fieldMap) {
+        if (!engine.isReadDestBeforeWrite() || !fieldMap.getClassMap().isReadDestBeforeWrite()) {
+            return false;
+        }
+
+        return destObj != createdDestObj
+               || (destFieldValue != null && !ClassUtils.isPrimitiveOrWrapper(destFieldValue.getClass()) && !(destFieldValue instanceof String));
+    }
+
     private Object mapUsingCustomConverterInstance(CustomConverter converterInstance, Class<?> srcFieldClass, Object srcFieldValue,
                                                    Class<?> destFieldClass, Object existingDestFieldValue, FieldMap fieldMap, boolean topLevel) {
 
@@ -1054,22 +1475,12 @@ public class MappingProcessor implements Mapper {
 
     private Object mapUsingCustomConverter(Class<?> customConverterClass, Class<?> srcFieldClass, Object srcFieldValue,
                                            Class<?> destFieldClass, Object existingDestFieldValue, FieldMap fieldMap, boolean topLevel) {
-        CustomConverter converterInstance = null;
-        // search our injected customconverters for a match
-        if (customConverterObjects != null) {
-            for (CustomConverter customConverterObject : customConverterObjects) {
-                if (customConverterClass.isInstance(customConverterObject)) {
-                    // we have a match
-                    converterInstance = customConverterObject;
-                }
-            }
-        }
-        // if converter object instances were not injected, then create new instance
-        // of the converter for each conversion
-        // TODO : Should we really create it each time?
-        if (converterInstance == null) {
-            converterInstance = (CustomConverter)ReflectionUtils.newInstance(customConverterClass);
+        if (mappingScopedConverters == null) {
+            mappingScopedConverters = new HashMap<>();
         }
+
+        // injected converter instances are shared, otherwise the converter scope decides whether to create a new instance
+        CustomConverter converterInstance = customConverterRegistry.getConverter(customConverterClass, mappingScopedConverters);
         return mapUsingCustomConverterInstance(converterInstance, srcFieldClass, srcFieldValue, destFieldClass, existingDestFieldValue,
                                                fieldMap, topLevel);
     }
@@ -1118,12 +1529,13 @@ public class MappingProcessor implements Mapper {
         }
     }
 
-    private void processSuperTypeMapping(Collection<ClassMap> superClasses, Object srcObj, Object destObj, List<String> mappedParentFields, String mapId) {
+    private void processSuperTypeMapping(ClassMap classMap, Collection<ClassMap> superClasses, Object srcObj, Object destObj,
+                                         BitSet mappedParentFields, String mapId) {
         for (ClassMap map : superClasses) {
-            map(map, srcObj, destObj, true, mappedParentFields, mapId);
-            for (FieldMap fieldMapping : map.getFieldMaps()) {
-                String key = MappingUtils.getMappedParentFieldKey(destObj, fieldMapping);
-                mappedParentFields.add(key);
+            int[] ordinals = classMap.getFieldMapOrdinals(map);
+            map(map, srcObj, destObj, true, mappedParentFields, ordinals, mapId);
+            for (int ordinal : ordinals) {
+                mappedParentFields.set(ordinal);
             }
         }
     }
@@ -1176,4 +1588,95 @@ public class MappingProcessor implements Mapper {
         return mapping;
     }
 
+    /**
+     * Class mapping, custom converter and creation directive resolved for a runtime source class and destination type
+     */
+    private static final class ResolvedMapping {
+
+        private final ClassMap classMap;
+        private final Class<?> converterClass;
+        private final Class<?> destType;
+
+        private ResolvedMapping(ClassMap classMap, Class<?> converterClass, Class<?> destType) {
+            this.classMap = classMap;
+            this.converterClass = converterClass;
+            this.destType = destType;
+        }
+
+        // directives are mutable and hold the source object, so every mapping gets its own
+        private BeanCreationDirective newCreationDirective(Object srcObj) {
+            return new BeanCreationDirective(srcObj, classMap.getSrcClassToMap(), classMap.getDestClassToMap(), destType,
+                                             classMap.getDestClassBeanFactory(), classMap.getDestClassBeanFactoryId(),
+                                             classMap.getDestClassCreateMethod(), classMap.getDestClass().isSkipConstructor());
+        }
+    }
+
+    /**
+     * Index over the elements of a destination collection, used to find the element a non-cumulative relationship
+     * updates in constant time. Elements are matched by equality, or by the value of the relationship key property.
+     */
+    private static final class ElementIndex {
+
+        private final String keyProperty;
+        private final Map<Object, Object> elements = new HashMap<>();
+        private final Map<Class<?>, Method> keyReadMethods = new HashMap<>(4);
+        private boolean containsNull;
+
+        private ElementIndex(String keyProperty, Collection<?> existingElements) {
+            this.keyProperty = keyProperty;
+            for (Object element : existingElements) {
+                add(element);
+            }
+        }
+
+        private void add(Object element) {
+            if (element == null) {
+                containsNull = true;
+                return;
+            }
+
+            Object key = keyOf(element);
+            if (key != null) {
+                elements.putIfAbsent(key, element);
+            }
+        }
+
+        private void remove(Object element) {
+            Object key = keyOf(element);
+            if (key != null && elements.get(key) == element) {
+                elements.remove(key);
+            }
+        }
+
+        private boolean contains(Object element) {
+            if (element == null) {
+                return containsNull;
+            }
+
+            Object key = keyOf(element);
+            return key != null && elements.containsKey(key);
+        }
+
+        private Object get(Object element) {
+            return element == null ? null : elements.get(keyOf(element));
+        }
+
+        private Object keyOf(Object element) {
+            if (keyProperty == null) {
+                return element;
+            }
+
+            Method readMethod = keyReadMethods.get(element.getClass());
+            if (readMethod == null) {
+                PropertyDescriptor descriptor = ReflectionUtils.findPropertyDescriptor(element.getClass(), keyProperty, null);
+                if (descriptor == null || descriptor.getReadMethod() == null) {
+                    MappingUtils.throwMappingException("Relationship key property '" + keyProperty + "' not found on " + element.getClass().getName());
+                }
+                readMethod = descriptor.getReadMethod();
+                keyReadMethods.put(element.getClass(), readMethod);
+            }
+
+            return ReflectionUtils.invoke(readMethod, element, null);
+        }
+    }
 }
@@ -15,7 +15,6 @@
  */
 package com.github.dozermapper.core.builder;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -29,14 +28,14 @@ public final class DestBeanBuilderCreator {
      * Elements of this collections should have very specific isApplicable method to avoid application to class,
      * which should be processed by another builder
      */
-    private final List<BeanBuilderCreationStrategy> pluggedStrategies = new ArrayList<>();
+    private final List<BeanBuilderCreationStrategy> pluggedStrategies = new CopyOnWriteArrayList<>();
 
     public DestBeanBuilderCreator() {
 
     }
 
     public BeanBuilder create(BeanCreationDirective directive) {
-        for (BeanBuilderCreationStrategy strategy : new CopyOnWriteArrayList<>(pluggedStrategies)) {
+        for (BeanBuilderCreationStrategy strategy : pluggedStrategies) {
             if (strategy.isApplicable(directive)) {
                 return strategy.create(directive);
             }
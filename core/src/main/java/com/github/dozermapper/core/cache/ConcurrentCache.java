@@ -0,0 +1,185 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.cache;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * Lock free cache implementation backed by a {@link ConcurrentHashMap}, intended for mappers shared by many threads.
+ * Reads never block and do not reorder any structure; they only flag the entry as recently used. Once the cache grows
+ * beyond its maximum size, entries are evicted in insertion order, giving flagged entries a second chance (CLOCK),
+ * which approximates least recently used eviction.
+ *
+ * @param <KeyType>   type of key being stored
+ * @param <ValueType> java of value being stored
+ */
+public class ConcurrentCache<KeyType, ValueType> implements Cache<KeyType, ValueType> {
+
+    private final String name;
+    private final int maximumSize;
+    private final ConcurrentMap<KeyType, Node<KeyType, ValueType>> cacheMap = new ConcurrentHashMap<>();
+    private final Queue<KeyType> evictionQueue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Lock free cache implementation backed by a {@link ConcurrentHashMap}
+     *
+     * @param name        unique cache name
+     * @param maximumSize maximum cache size
+     */
+    public ConcurrentCache(final String name, final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Dozer cache max size must be greater than 0");
+        }
+
+        this.name = name;
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        cacheMap.clear();
+        evictionQueue.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(KeyType key, ValueType value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Cache entry key cannot be null");
+        }
+
+        Node<KeyType, ValueType> previous = cacheMap.put(key, new Node<>(new CacheEntry<>(key, value)));
+        if (previous == null) {
+            evictionQueue.offer(key);
+            evictIfNecessary();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ValueType get(KeyType key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+
+        Node<KeyType, ValueType> result = cacheMap.get(key);
+        if (result == null) {
+            return null;
+        }
+
+        result.markReferenced();
+        return result.entry.getValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSize() {
+        return cacheMap.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getMaxSize() {
+        return maximumSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(KeyType key) {
+        return cacheMap.containsKey(key);
+    }
+
+    @Override
+    public String toString() {
+        return ReflectionToStringBuilder.toString(this, ToStringStyle.MULTI_LINE_STYLE);
+    }
+
+    private void evictIfNecessary() {
+        // every entry is visited at most twice before a victim is found, the bound only protects against concurrent puts
+        int attempts = 2 * (maximumSize + 1);
+        while (cacheMap.size() > maximumSize && attempts-- > 0) {
+            KeyType candidate = evictionQueue.poll();
+            if (candidate == null) {
+                return;
+            }
+
+            Node<KeyType, ValueType> node = cacheMap.get(candidate);
+            if (node == null) {
+                continue;
+            }
+
+            if (node.clearReferenced()) {
+                evictionQueue.offer(candidate);
+            } else if (!cacheMap.remove(candidate, node) && cacheMap.containsKey(candidate)) {
+                // replaced concurrently, keep the key in the queue so the new value can still be evicted
+                evictionQueue.offer(candidate);
+            }
+        }
+    }
+
+    private static final class Node<KeyType, ValueType> {
+
+        private final CacheEntry<KeyType, ValueType> entry;
+        private volatile boolean referenced;
+
+        private Node(CacheEntry<KeyType, ValueType> entry) {
+            this.entry = entry;
+        }
+
+        private void markReferenced() {
+            // avoid a volatile write, and the cache line invalidation which comes with it, for hot entries
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+
+        private boolean clearReferenced() {
+            if (referenced) {
+                referenced = false;
+                return true;
+            }
+
+            return false;
+        }
+    }
+}
@@ -22,7 +22,8 @@ import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
 /**
- * Default cache manager implementation backed by {@link LRUMap}
+ * Default cache manager implementation backed by {@link LRUMap}. All operations synchronize on the cache,
+ * see {@link ConcurrentCache} for mappers shared by many threads.
  *
  * @param <KeyType>   type of key being stored
  * @param <ValueType> java of value being stored
@@ -44,14 +45,14 @@ public class DefaultCache<KeyType, ValueType> implements Cache<KeyType, ValueTyp
         }
 
         this.name = name;
-        this.cacheMap = new LRUMap(maximumSize); //Should be: Collections.synchronizedMap
+        this.cacheMap = new LRUMap(maximumSize);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void clear() {
+    public synchronized void clear() {
         cacheMap.clear();
     }
 
@@ -72,7 +73,7 @@ public class DefaultCache<KeyType, ValueType> implements Cache<KeyType, ValueTyp
      * {@inheritDoc}
      */
     @Override
-    public ValueType get(KeyType key) {
+    public synchronized ValueType get(KeyType key) {
         if (key == null) {
             throw new IllegalArgumentException("Key cannot be null");
         }
@@ -97,7 +98,7 @@ public class DefaultCache<KeyType, ValueType> implements Cache<KeyType, ValueTyp
      * {@inheritDoc}
      */
     @Override
-    public long getSize() {
+    public synchronized long getSize() {
         return cacheMap.size();
     }
 
@@ -113,7 +114,7 @@ public class DefaultCache<KeyType, ValueType> implements Cache<KeyType, ValueTyp
      * {@inheritDoc}
      */
     @Override
-    public boolean containsKey(KeyType key) {
+    public synchronized boolean containsKey(KeyType key) {
         return cacheMap.containsKey(key);
     }
 
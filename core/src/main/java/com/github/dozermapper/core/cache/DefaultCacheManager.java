@@ -67,7 +67,14 @@ public final class DefaultCacheManager implements CacheManager {
         return putCache(new DefaultCache(name, maxElementsInMemory));
     }
 
-    private Cache putCache(Cache cache) throws MappingException {
+    /**
+     * Puts an already created cache object into store, i.e. a {@link ConcurrentCache}
+     *
+     * @param cache cache to store
+     * @return Cache object stored
+     * @throws MappingException exception is thrown if cache already exists
+     */
+    public Cache putCache(Cache cache) throws MappingException {
         synchronized (cachesMap) {
             String name = cache.getName();
             if (cacheExists(name)) {
@@ -16,7 +16,11 @@
 package com.github.dozermapper.core.classmap;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.github.dozermapper.core.converters.CustomConverterContainer;
 import com.github.dozermapper.core.fieldmap.FieldMap;
@@ -45,11 +49,20 @@ public class ClassMap {
     private Boolean wildcard;
     private Boolean wildcardCaseInsensitive;
     private Boolean stopOnErrors;
+    private Boolean trackReferences;
     private Boolean trimStrings;
+    private Boolean readDestBeforeWrite;
     private CustomConverterContainer customConverters;
     private String mapId;
     private RelationshipType relationshipType;
 
+    // destination field ordinal per field map, assigned once the class map is complete
+    private volatile int[] fieldMapOrdinals;
+    // <destFieldName[destFieldKey], ordinal> of the fields of this class map, extended by the fields of super class maps
+    private Map<String, Integer> hierarchyDestFieldOrdinals;
+    // destination field ordinal per field map of super class maps, in the ordinal space of this class map
+    private final ConcurrentMap<ClassMap, int[]> superFieldMapOrdinals = new ConcurrentHashMap<>();
+
     public ClassMap(Configuration globalConfiguration) {
         this.globalConfiguration = globalConfiguration;
     }
@@ -66,6 +79,34 @@ public class ClassMap {
         this.stopOnErrors = stopOnErrors;
     }
 
+    /**
+     * Whether mapped objects are tracked to keep shared and cyclic references intact. Class mappings of acyclic
+     * object graphs without shared references can turn it off to save the bookkeeping.
+     *
+     * @return false if objects mapped by this class mapping are not tracked
+     */
+    public boolean isTrackReferences() {
+        return trackReferences == null || trackReferences;
+    }
+
+    public void setTrackReferences(Boolean trackReferences) {
+        this.trackReferences = trackReferences;
+    }
+
+    /**
+     * Whether the current destination value is read before writing a field, to skip writing the same reference again.
+     * Mappings of destinations whose setters have no side effects can turn it off to save a getter call per field.
+     *
+     * @return false if destination fields are written without reading them first
+     */
+    public boolean isReadDestBeforeWrite() {
+        return readDestBeforeWrite == null || readDestBeforeWrite;
+    }
+
+    public void setReadDestBeforeWrite(Boolean readDestBeforeWrite) {
+        this.readDestBeforeWrite = readDestBeforeWrite;
+    }
+
     public boolean isTrimStrings() {
         return trimStrings != null ? trimStrings.booleanValue() : globalConfiguration.getTrimStrings().booleanValue();
     }
@@ -142,14 +183,94 @@ public class ClassMap {
 
     public void setFieldMaps(List<FieldMap> fieldMaps) {
         this.fieldMaps = fieldMaps;
+        resetDestFieldOrdinals();
     }
 
     public void addFieldMapping(FieldMap fieldMap) {
         fieldMaps.add(fieldMap);
+        resetDestFieldOrdinals();
     }
 
     public void removeFieldMapping(FieldMap fieldMap) {
         fieldMaps.remove(fieldMap);
+        resetDestFieldOrdinals();
+    }
+
+    /**
+     * Assigns dense ordinals (0..n-1) to the destination fields of this class map, field maps writing the same destination
+     * field and key share the ordinal. Called once the field maps of the class map are complete, otherwise the ordinals
+     * are assigned on first use.
+     */
+    public synchronized void assignDestFieldOrdinals() {
+        Map<String, Integer> ordinals = new HashMap<>();
+        int[] fieldOrdinals = new int[fieldMaps.size()];
+        for (int i = 0; i < fieldOrdinals.length; i++) {
+            fieldOrdinals[i] = ordinals.computeIfAbsent(getDestFieldOrdinalKey(fieldMaps.get(i)), key -> ordinals.size());
+        }
+
+        superFieldMapOrdinals.clear();
+        hierarchyDestFieldOrdinals = ordinals;
+        fieldMapOrdinals = fieldOrdinals;
+    }
+
+    /**
+     * Returns the ordinals of the destination fields written by the field maps of this class map, indexed like
+     * {@link #getFieldMaps()}.
+     *
+     * @return destination field ordinal per field map
+     */
+    public int[] getFieldMapOrdinals() {
+        int[] ordinals = fieldMapOrdinals;
+        if (ordinals == null) {
+            assignDestFieldOrdinals();
+            ordinals = fieldMapOrdinals;
+        }
+
+        return ordinals;
+    }
+
+    /**
+     * Returns the ordinals of the destination fields written by the field maps of a super class map, indexed like its
+     * {@link #getFieldMaps()}. Ordinals are taken from this class map, fields this class map does not write get ordinals
+     * following its own, so the same bit set can track the fields mapped by the whole hierarchy.
+     *
+     * @param superClassMap class map of super classes of the mapped classes
+     * @return destination field ordinal per field map of the super class map
+     */
+    public int[] getFieldMapOrdinals(ClassMap superClassMap) {
+        int[] ordinals = superFieldMapOrdinals.get(superClassMap);
+        if (ordinals == null) {
+            ordinals = resolveSuperFieldMapOrdinals(superClassMap);
+        }
+
+        return ordinals;
+    }
+
+    private synchronized int[] resolveSuperFieldMapOrdinals(ClassMap superClassMap) {
+        getFieldMapOrdinals();
+        int[] ordinals = superFieldMapOrdinals.get(superClassMap);
+        if (ordinals == null) {
+            Map<String, Integer> hierarchyOrdinals = hierarchyDestFieldOrdinals;
+            List<FieldMap> superFieldMaps = superClassMap.getFieldMaps();
+            ordinals = new int[superFieldMaps.size()];
+            for (int i = 0; i < ordinals.length; i++) {
+                ordinals[i] = hierarchyOrdinals.computeIfAbsent(getDestFieldOrdinalKey(superFieldMaps.get(i)), key -> hierarchyOrdinals.size());
+            }
+
+            superFieldMapOrdinals.put(superClassMap, ordinals);
+        }
+
+        return ordinals;
+    }
+
+    private synchronized void resetDestFieldOrdinals() {
+        hierarchyDestFieldOrdinals = null;
+        fieldMapOrdinals = null;
+        superFieldMapOrdinals.clear();
+    }
+
+    private static String getDestFieldOrdinalKey(FieldMap fieldMap) {
+        return fieldMap.getDestFieldKey() == null ? fieldMap.getDestFieldName() : fieldMap.getDestFieldName() + "[" + fieldMap.getDestFieldKey() + "]";
     }
 
     public boolean isWildcard() {
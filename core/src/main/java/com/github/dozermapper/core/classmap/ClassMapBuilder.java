@@ -112,6 +112,7 @@ public final class ClassMapBuilder {
         if (shouldGenerateMapping) {
             generateMapping(classMap, globalConfiguration, buildTimeGenerators);
         }
+        classMap.assignDestFieldOrdinals();
 
         return classMap;
     }
@@ -16,15 +16,20 @@
 package com.github.dozermapper.core.classmap;
 
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import com.github.dozermapper.core.config.BeanContainer;
 import com.github.dozermapper.core.util.MappingUtils;
 
+import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
 
 /**
@@ -34,8 +39,20 @@ import org.apache.commons.lang3.StringUtils;
  */
 public class ClassMappings {
 
+    // Index key used for class mappings without map-id
+    private static final String NO_MAP_ID = "";
+
     // Cache key --> Mapping Structure
-    private ConcurrentMap<String, ClassMap> classMappings = new ConcurrentHashMap<>();
+    private ConcurrentMap<ClassMapKey, ClassMap> classMappings = new ConcurrentHashMap<>();
+    // map-id --> source class of the mapping --> keys of the mappings, used to resolve interface, abstract and map-id lookups
+    private final ConcurrentMap<String, ConcurrentMap<Class<?>, Set<ClassMapKey>>> hierarchyIndex = new ConcurrentHashMap<>();
+    // Lookups which did not resolve to any mapping, cleared whenever a mapping is added
+    private final Set<ClassMapKey> misses = ConcurrentHashMap.newKeySet();
+    // Mappings resolved by map-id only, cleared whenever a mapping is added
+    private final ConcurrentMap<ClassMapKey, ClassMap> resolvedByMapId = new ConcurrentHashMap<>();
+    // Keys of the default mappings generated while mapping
+    private final Set<ClassMapKey> defaultMappings = ConcurrentHashMap.newKeySet();
+    private volatile int version;
     private ClassMapKeyFactory keyFactory;
     private final BeanContainer beanContainer;
 
@@ -46,23 +63,24 @@ public class ClassMappings {
 
     // Default mappings. May be ovewritten due to multiple threads generating same mapping
     public void addDefault(Class<?> srcClass, Class<?> destClass, ClassMap classMap) {
-        classMappings.put(keyFactory.createKey(srcClass, destClass), classMap);
+        ClassMapKey key = createKey(srcClass, destClass, null);
+        put(key, classMap);
+        defaultMappings.add(key);
     }
 
     public void add(Class<?> srcClass, Class<?> destClass, ClassMap classMap) {
-        ClassMap result = classMappings.put(keyFactory.createKey(srcClass, destClass), classMap);
+        ClassMap result = put(createKey(srcClass, destClass, null), classMap);
         failOnDuplicate(result, classMap);
     }
 
     public void add(Class<?> srcClass, Class<?> destClass, String mapId, ClassMap classMap) {
-        ClassMap result = classMappings.put(keyFactory.createKey(srcClass, destClass, mapId), classMap);
+        ClassMap result = put(createKey(srcClass, destClass, mapId), classMap);
         failOnDuplicate(result, classMap);
     }
 
     public void addAll(ClassMappings additionalClassMappings) {
-        Map<String, ClassMap> newMappings = additionalClassMappings.getAll();
-        for (Entry<String, ClassMap> entry : newMappings.entrySet()) {
-            ClassMap result = classMappings.put(entry.getKey(), entry.getValue());
+        for (Entry<ClassMapKey, ClassMap> entry : additionalClassMappings.classMappings.entrySet()) {
+            ClassMap result = put(entry.getKey(), entry.getValue());
             failOnDuplicate(result, entry.getValue());
         }
     }
@@ -74,8 +92,20 @@ public class ClassMappings {
         }
     }
 
+    /**
+     * Returns all class mappings keyed by their {@link ClassMapKeyFactory} string key. The keys are built on each call,
+     * so this is meant for metadata and initialization only, not for lookups while mapping.
+     *
+     * @return copy of all class mappings
+     */
     public Map<String, ClassMap> getAll() {
-        return new HashMap<>(classMappings);
+        Map<String, ClassMap> result = new HashMap<>();
+        for (Entry<ClassMapKey, ClassMap> entry : classMappings.entrySet()) {
+            ClassMapKey key = entry.getKey();
+            result.put(keyFactory.createKey(key.srcClass, key.destClass, key.mapId), entry.getValue());
+        }
+
+        return result;
     }
 
     public long size() {
@@ -83,85 +113,187 @@ public class ClassMappings {
     }
 
     public ClassMap find(Class<?> srcClass, Class<?> destClass) {
-        return classMappings.get(keyFactory.createKey(srcClass, destClass));
+        return classMappings.get(createKey(srcClass, destClass, null));
     }
 
     public boolean contains(Class<?> srcClass, Class<?> destClass, String mapId) {
-        String key = keyFactory.createKey(srcClass, destClass, mapId);
-        return classMappings.containsKey(key);
+        return classMappings.containsKey(createKey(srcClass, destClass, mapId));
+    }
+
+    /**
+     * Checks if a mapping without map-id was configured for the classes, either directly or for their super types.
+     * Default mappings generated while mapping are ignored.
+     *
+     * @param srcClass  source class
+     * @param destClass destination class
+     * @return true if a configured mapping exists
+     */
+    public boolean containsConfigured(Class<?> srcClass, Class<?> destClass) {
+        return find(srcClass, destClass, null) != null && !defaultMappings.contains(createKey(srcClass, destClass, null));
     }
 
     public ClassMap find(Class<?> srcClass, Class<?> destClass, String mapId) {
-        final String key = keyFactory.createKey(srcClass, destClass, mapId);
+        final ClassMapKey key = createKey(srcClass, destClass, mapId);
         ClassMap mapping = classMappings.get(key);
+        if (mapping != null) {
+            return mapping;
+        }
 
-        if (mapping == null) {
-            mapping = findInterfaceMapping(destClass, srcClass, mapId);
+        boolean hasMapId = !MappingUtils.isBlankOrNull(mapId);
+        if (hasMapId) {
+            mapping = resolvedByMapId.get(key);
             if (mapping != null) {
-                ClassMap previous = classMappings.putIfAbsent(keyFactory.createKey(srcClass, destClass, mapId), mapping);
-                if (previous != null) {
-                    mapping = previous;
-                }
+                return mapping;
             }
         }
 
+        if (misses.contains(key)) {
+            return notFound(key, hasMapId);
+        }
+
+        int expectedVersion = version;
+        mapping = findInterfaceMapping(destClass, srcClass, key.mapId);
+        if (mapping != null) {
+            ClassMap previous = classMappings.putIfAbsent(key, mapping);
+            if (previous != null) {
+                return previous;
+            }
+
+            index(key, mapping);
+            return mapping;
+        }
+
         // one more try...
         // if the mapId is not null looking up a map is easy
-        if (!MappingUtils.isBlankOrNull(mapId) && mapping == null) {
-            // probably a more efficient way to do this...
-            for (Entry<String, ClassMap> entry : classMappings.entrySet()) {
-                ClassMap classMap = entry.getValue();
-                if (StringUtils.equals(classMap.getMapId(), mapId)
-                    && classMap.getSrcClassToMap().isAssignableFrom(srcClass)
-                    && classMap.getDestClassToMap().isAssignableFrom(destClass)) {
-                    return classMap;
-                } else if (StringUtils.equals(classMap.getMapId(), mapId) && srcClass.equals(destClass)) {
-                    return classMap;
-                }
+        if (hasMapId) {
+            mapping = findMapIdMapping(srcClass, destClass, key.mapId);
+            if (mapping != null) {
+                resolvedByMapId.putIfAbsent(key, mapping);
+                return mapping;
             }
+        }
 
+        misses.add(key);
+        if (expectedVersion != version) {
+            // a mapping was added concurrently, do not remember this miss
+            misses.remove(key);
+        }
+
+        return notFound(key, hasMapId);
+    }
+
+    private ClassMap notFound(ClassMapKey key, boolean hasMapId) {
+        if (hasMapId) {
             // If map-id was specified and mapping was not found, then fail
-            MappingUtils.throwMappingException("Class mapping not found by map-id: " + key);
+            MappingUtils.throwMappingException("Class mapping not found by map-id: " + keyFactory.createKey(key.srcClass, key.destClass, key.mapId));
         }
 
-        return mapping;
+        return null;
+    }
+
+    private ClassMap put(ClassMapKey key, ClassMap classMap) {
+        ClassMap result = classMappings.put(key, classMap);
+        defaultMappings.remove(key);
+        index(key, classMap);
+
+        version++;
+        misses.clear();
+        resolvedByMapId.clear();
+
+        return result;
+    }
+
+    private void index(ClassMapKey key, ClassMap classMap) {
+        Class<?> mappingSrcClass = classMap.getSrcClassToMap();
+        if (mappingSrcClass == null) {
+            return;
+        }
+
+        hierarchyIndex.computeIfAbsent(indexMapId(classMap.getMapId()), k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(mappingSrcClass, k -> ConcurrentHashMap.newKeySet())
+                .add(key);
+    }
+
+    private Map<Class<?>, Set<ClassMapKey>> getIndex(String mapId) {
+        Map<Class<?>, Set<ClassMapKey>> index = hierarchyIndex.get(indexMapId(mapId));
+        return index != null ? index : Collections.emptyMap();
+    }
+
+    private static String indexMapId(String mapId) {
+        return StringUtils.isEmpty(mapId) ? NO_MAP_ID : mapId;
     }
 
     // Look for an interface mapping
     private ClassMap findInterfaceMapping(Class<?> destClass, Class<?> srcClass, String mapId) {
-        // Use object array for keys to avoid any rare thread synchronization issues
-        // while iterating over the custom mappings.
-        // See bug #1550275.
-        Object[] keys = classMappings.keySet().toArray();
-        for (Object key : keys) {
-            ClassMap map = classMappings.get(key);
-            Class<?> mappingDestClass = map.getDestClassToMap();
-            Class<?> mappingSrcClass = map.getSrcClassToMap();
+        Map<Class<?>, Set<ClassMapKey>> index = getIndex(mapId);
+        if (index.isEmpty()) {
+            return null;
+        }
 
-            if ((mapId == null && map.getMapId() != null) || (mapId != null && !mapId.equals(map.getMapId()))) {
-                continue;
-            }
+        // Mappings declared for an interface implemented by the source class
+        List<Class<?>> srcInterfaces = new ArrayList<>();
+        if (srcClass.isInterface()) {
+            srcInterfaces.add(srcClass);
+        }
+        srcInterfaces.addAll(ClassUtils.getAllInterfaces(srcClass));
 
-            if (isInterfaceImplementation(srcClass, mappingSrcClass)) {
-                if (isInterfaceImplementation(destClass, mappingDestClass)) {
-                    return map;
-                } else if (destClass.equals(mappingDestClass)) {
+        for (Class<?> srcInterface : srcInterfaces) {
+            for (ClassMap map : getMappings(index.get(srcInterface))) {
+                Class<?> mappingDestClass = map.getDestClassToMap();
+                if (isInterfaceImplementation(destClass, mappingDestClass) || destClass.equals(mappingDestClass)) {
                     return map;
                 }
             }
+        }
 
-            // Destination could be an abstract type. Picking up the best concrete type to use.
+        // Destination could be an abstract type. Picking up the best concrete type to use.
+        for (ClassMap map : getMappings(index.get(MappingUtils.getRealClass(srcClass, beanContainer)))) {
+            Class<?> mappingDestClass = map.getDestClassToMap();
             if ((destClass.isAssignableFrom(mappingDestClass) && isAbstract(destClass))
                 || (isInterfaceImplementation(destClass, mappingDestClass))) {
-                if (MappingUtils.getRealClass(srcClass, beanContainer).equals(mappingSrcClass)) {
-                    return map;
-                }
+                return map;
             }
+        }
 
+        return null;
+    }
+
+    private ClassMap findMapIdMapping(Class<?> srcClass, Class<?> destClass, String mapId) {
+        for (Set<ClassMapKey> keys : getIndex(mapId).values()) {
+            for (ClassMap classMap : getMappings(keys)) {
+                if (classMap.getSrcClassToMap().isAssignableFrom(srcClass)
+                    && classMap.getDestClassToMap().isAssignableFrom(destClass)) {
+                    return classMap;
+                } else if (srcClass.equals(destClass)) {
+                    return classMap;
+                }
+            }
         }
+
         return null;
     }
 
+    private List<ClassMap> getMappings(Set<ClassMapKey> keys) {
+        if (keys == null) {
+            return Collections.emptyList();
+        }
+
+        List<ClassMap> result = new ArrayList<>(keys.size());
+        for (ClassMapKey key : keys) {
+            ClassMap classMap = classMappings.get(key);
+            if (classMap != null) {
+                result.add(classMap);
+            }
+        }
+
+        return result;
+    }
+
+    private ClassMapKey createKey(Class<?> srcClass, Class<?> destClass, String mapId) {
+        return new ClassMapKey(MappingUtils.getRealClass(srcClass, beanContainer), MappingUtils.getRealClass(destClass, beanContainer),
+                               StringUtils.isEmpty(mapId) ? null : mapId);
+    }
+
     private boolean isInterfaceImplementation(Class<?> type, Class<?> mappingType) {
         return mappingType.isInterface() && mappingType.isAssignableFrom(type);
     }
@@ -170,4 +302,40 @@ public class ClassMappings {
         return Modifier.isAbstract(destClass.getModifiers());
     }
 
+    /**
+     * Lookup key hashing on class identity, so finding a mapping does not build a string key
+     */
+    private static final class ClassMapKey {
+
+        private final Class<?> srcClass;
+        private final Class<?> destClass;
+        private final String mapId;
+        private final int hash;
+
+        private ClassMapKey(Class<?> srcClass, Class<?> destClass, String mapId) {
+            this.srcClass = srcClass;
+            this.destClass = destClass;
+            this.mapId = mapId;
+            this.hash = 31 * (31 * srcClass.hashCode() + destClass.hashCode()) + (mapId != null ? mapId.hashCode() : 0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ClassMapKey)) {
+                return false;
+            }
+
+            ClassMapKey that = (ClassMapKey)o;
+            return srcClass == that.srcClass && destClass == that.destClass && StringUtils.equals(mapId, that.mapId);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.classmap;
+
+import com.github.dozermapper.core.events.EventListener;
+import com.github.dozermapper.core.util.DozerProxyResolver;
+
+/**
+ * Specifies how field values which the {@link DozerProxyResolver} reports as not yet initialized, e.g. lazy loaded
+ * entities and collections of a persistence framework, are mapped.
+ */
+public enum LazyLoadPolicy {
+
+    /**
+     * Values are mapped as any other value, which initializes them
+     */
+    INITIALIZE,
+
+    /**
+     * Values are not mapped, the destination field keeps its current value
+     */
+    SKIP,
+
+    /**
+     * Values are mapped to a new instance of the destination field type holding nothing but the identifier in its
+     * {@code id} property. Values without identifier, e.g. collections, are skipped.
+     */
+    IDENTIFIER,
+
+    /**
+     * Values are not mapped, but reported to the event listeners
+     * overriding {@link EventListener#onUninitializedSourceValue}
+     */
+    CALLBACK
+}
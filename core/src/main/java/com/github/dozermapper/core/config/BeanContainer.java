@@ -19,6 +19,9 @@ import com.github.dozermapper.core.el.ELEngine;
 import com.github.dozermapper.core.el.NoopELEngine;
 import com.github.dozermapper.core.loader.xml.ElementReader;
 import com.github.dozermapper.core.loader.xml.ExpressionElementReader;
+import com.github.dozermapper.core.propertydescriptor.DeepHierarchyElement;
+import com.github.dozermapper.core.util.CachingProxyResolver;
+import com.github.dozermapper.core.util.DeepHierarchyCache;
 import com.github.dozermapper.core.util.DefaultClassLoader;
 import com.github.dozermapper.core.util.DefaultProxyResolver;
 import com.github.dozermapper.core.util.DozerClassLoader;
@@ -29,8 +32,10 @@ public class BeanContainer {
     DozerClassLoader classLoader = new DefaultClassLoader(getClass().getClassLoader());
     DozerClassLoader tccl = new DefaultClassLoader(Thread.currentThread().getContextClassLoader());
     DozerProxyResolver proxyResolver = new DefaultProxyResolver();
+    DozerProxyResolver cachingProxyResolver = CachingProxyResolver.of(proxyResolver);
     ElementReader elementReader = new ExpressionElementReader(new NoopELEngine());
     ELEngine elEngine;
+    private final DeepHierarchyCache<DeepHierarchyElement[]> deepFieldHierarchyCache = new DeepHierarchyCache<>();
 
     public DozerClassLoader getClassLoader() {
         return classLoader;
@@ -50,6 +55,16 @@ public class BeanContainer {
 
     public void setProxyResolver(DozerProxyResolver proxyResolver) {
         this.proxyResolver = proxyResolver;
+        this.cachingProxyResolver = CachingProxyResolver.of(proxyResolver);
+    }
+
+    /**
+     * Returns the proxy resolver decorated to cache its answers per class. Only intended for internal use.
+     *
+     * @return caching proxy resolver
+     */
+    public DozerProxyResolver getCachingProxyResolver() {
+        return cachingProxyResolver;
     }
 
     public ElementReader getElementReader() {
@@ -67,4 +82,13 @@ public class BeanContainer {
     public void setElEngine(ELEngine elEngine) {
         this.elEngine = elEngine;
     }
+
+    /**
+     * Returns the deep field hierarchies resolved by this mapper, which are released together with the mapper
+     *
+     * @return deep field hierarchy cache
+     */
+    public DeepHierarchyCache<DeepHierarchyElement[]> getDeepFieldHierarchyCache() {
+        return deepFieldHierarchyCache;
+    }
 }
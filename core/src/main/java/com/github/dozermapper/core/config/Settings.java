@@ -15,6 +15,8 @@
  */
 package com.github.dozermapper.core.config;
 
+import com.github.dozermapper.core.classmap.LazyLoadPolicy;
+
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 public class Settings {
@@ -24,6 +26,11 @@ public class Settings {
     private String classLoaderBeanName = SettingsDefaults.CLASS_LOADER_BEAN;
     private String proxyResolverBeanName = SettingsDefaults.PROXY_RESOLVER_BEAN;
     private Boolean useJaxbMappingEngine = SettingsDefaults.USE_JAXB_MAPPING_ENGINE;
+    private Boolean useCompiledMappingPlans = SettingsDefaults.USE_COMPILED_MAPPING_PLANS;
+    private Boolean useConcurrentCaches = SettingsDefaults.USE_CONCURRENT_CACHES;
+    private Integer parallelCollectionMappingThreshold = SettingsDefaults.PARALLEL_COLLECTION_MAPPING_THRESHOLD;
+    private Boolean readDestBeforeWrite = SettingsDefaults.READ_DEST_BEFORE_WRITE;
+    private LazyLoadPolicy lazyLoadPolicy = SettingsDefaults.LAZY_LOAD_POLICY;
 
     public Settings() {
 
@@ -38,6 +45,25 @@ public class Settings {
         this.useJaxbMappingEngine = useJaxbMappingEngine;
     }
 
+    private Settings(Builder builder) {
+        this(builder.converterByDestTypeCacheMaxSize, builder.superTypesCacheMaxSize, builder.classLoaderBeanName, builder.proxyResolverBeanName,
+             builder.useJaxbMappingEngine);
+        this.useCompiledMappingPlans = builder.useCompiledMappingPlans;
+        this.useConcurrentCaches = builder.useConcurrentCaches;
+        this.parallelCollectionMappingThreshold = builder.parallelCollectionMappingThreshold;
+        this.readDestBeforeWrite = builder.readDestBeforeWrite;
+        this.lazyLoadPolicy = builder.lazyLoadPolicy;
+    }
+
+    /**
+     * Creates a builder starting from the default settings
+     *
+     * @return new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
     public Integer getConverterByDestTypeCacheMaxSize() {
         return converterByDestTypeCacheMaxSize;
     }
@@ -58,6 +84,26 @@ public class Settings {
         return useJaxbMappingEngine;
     }
 
+    public Boolean getUseCompiledMappingPlans() {
+        return useCompiledMappingPlans;
+    }
+
+    public Boolean getUseConcurrentCaches() {
+        return useConcurrentCaches;
+    }
+
+    public Integer getParallelCollectionMappingThreshold() {
+        return parallelCollectionMappingThreshold;
+    }
+
+    public Boolean getReadDestBeforeWrite() {
+        return readDestBeforeWrite;
+    }
+
+    public LazyLoadPolicy getLazyLoadPolicy() {
+        return lazyLoadPolicy;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -66,6 +112,85 @@ public class Settings {
                 .append("classLoaderBeanName", classLoaderBeanName)
                 .append("proxyResolverBeanName", proxyResolverBeanName)
                 .append("useJaxbMappingEngine", useJaxbMappingEngine)
+                .append("useCompiledMappingPlans", useCompiledMappingPlans)
+                .append("useConcurrentCaches", useConcurrentCaches)
+                .append("parallelCollectionMappingThreshold", parallelCollectionMappingThreshold)
+                .append("readDestBeforeWrite", readDestBeforeWrite)
+                .append("lazyLoadPolicy", lazyLoadPolicy)
                 .toString();
     }
+
+    /**
+     * Builder of {@link Settings}. Settings which are not set keep their value from {@link SettingsDefaults}.
+     */
+    public static final class Builder {
+
+        private Integer converterByDestTypeCacheMaxSize = SettingsDefaults.CONVERTER_BY_DEST_TYPE_CACHE_MAX_SIZE;
+        private Integer superTypesCacheMaxSize = SettingsDefaults.SUPER_TYPE_CHECK_CACHE_MAX_SIZE;
+        private String classLoaderBeanName = SettingsDefaults.CLASS_LOADER_BEAN;
+        private String proxyResolverBeanName = SettingsDefaults.PROXY_RESOLVER_BEAN;
+        private Boolean useJaxbMappingEngine = SettingsDefaults.USE_JAXB_MAPPING_ENGINE;
+        private Boolean useCompiledMappingPlans = SettingsDefaults.USE_COMPILED_MAPPING_PLANS;
+        private Boolean useConcurrentCaches = SettingsDefaults.USE_CONCURRENT_CACHES;
+        private Integer parallelCollectionMappingThreshold = SettingsDefaults.PARALLEL_COLLECTION_MAPPING_THRESHOLD;
+        private Boolean readDestBeforeWrite = SettingsDefaults.READ_DEST_BEFORE_WRITE;
+        private LazyLoadPolicy lazyLoadPolicy = SettingsDefaults.LAZY_LOAD_POLICY;
+
+        private Builder() {
+        }
+
+        public Builder withConverterByDestTypeCacheMaxSize(Integer converterByDestTypeCacheMaxSize) {
+            this.converterByDestTypeCacheMaxSize = converterByDestTypeCacheMaxSize;
+            return this;
+        }
+
+        public Builder withSuperTypesCacheMaxSize(Integer superTypesCacheMaxSize) {
+            this.superTypesCacheMaxSize = superTypesCacheMaxSize;
+            return this;
+        }
+
+        public Builder withClassLoaderBeanName(String classLoaderBeanName) {
+            this.classLoaderBeanName = classLoaderBeanName;
+            return this;
+        }
+
+        public Builder withProxyResolverBeanName(String proxyResolverBeanName) {
+            this.proxyResolverBeanName = proxyResolverBeanName;
+            return this;
+        }
+
+        public Builder withUseJaxbMappingEngine(Boolean useJaxbMappingEngine) {
+            this.useJaxbMappingEngine = useJaxbMappingEngine;
+            return this;
+        }
+
+        public Builder withUseCompiledMappingPlans(Boolean useCompiledMappingPlans) {
+            this.useCompiledMappingPlans = useCompiledMappingPlans;
+            return this;
+        }
+
+        public Builder withUseConcurrentCaches(Boolean useConcurrentCaches) {
+            this.useConcurrentCaches = useConcurrentCaches;
+            return this;
+        }
+
+        public Builder withParallelCollectionMappingThreshold(Integer parallelCollectionMappingThreshold) {
+            this.parallelCollectionMappingThreshold = parallelCollectionMappingThreshold;
+            return this;
+        }
+
+        public Builder withReadDestBeforeWrite(Boolean readDestBeforeWrite) {
+            this.readDestBeforeWrite = readDestBeforeWrite;
+            return this;
+        }
+
+        public Builder withLazyLoadPolicy(LazyLoadPolicy lazyLoadPolicy) {
+            this.lazyLoadPolicy = lazyLoadPolicy;
+            return this;
+        }
+
+        public Settings build() {
+            return new Settings(this);
+        }
+    }
 }
@@ -15,6 +15,8 @@
  */
 package com.github.dozermapper.core.config;
 
+import com.github.dozermapper.core.classmap.LazyLoadPolicy;
+
 public final class SettingsDefaults {
 
     private SettingsDefaults() {
@@ -28,4 +30,9 @@ public final class SettingsDefaults {
     public static final String CLASS_LOADER_BEAN = "com.github.dozermapper.core.util.DefaultClassLoader";
     public static final String PROXY_RESOLVER_BEAN = "com.github.dozermapper.core.util.DefaultProxyResolver";
     public static final Boolean USE_JAXB_MAPPING_ENGINE = true;
+    public static final Boolean USE_COMPILED_MAPPING_PLANS = false;
+    public static final Boolean USE_CONCURRENT_CACHES = false;
+    public static final Integer PARALLEL_COLLECTION_MAPPING_THRESHOLD = 0;
+    public static final Boolean READ_DEST_BEFORE_WRITE = true;
+    public static final LazyLoadPolicy LAZY_LOAD_POLICY = LazyLoadPolicy.INITIALIZE;
 }
@@ -18,6 +18,7 @@ package com.github.dozermapper.core.config.processors;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.github.dozermapper.core.classmap.LazyLoadPolicy;
 import com.github.dozermapper.core.config.Settings;
 import com.github.dozermapper.core.config.SettingsDefaults;
 import com.github.dozermapper.core.config.SettingsKeys;
@@ -61,7 +62,33 @@ public class DefaultSettingsProcessor implements SettingsProcessor {
         Boolean useJaxbMappingEngine = Boolean.valueOf(getValue(SettingsKeys.USE_JAXB_MAPPING_ENGINE,
                                                                 SettingsDefaults.USE_JAXB_MAPPING_ENGINE).toString());
 
-        return new Settings(converterByDestTypeCacheMaxSize, superTypesCacheMaxSize, classLoaderBeanName, proxyResolverBeanName, useJaxbMappingEngine);
+        Boolean useCompiledMappingPlans = Boolean.valueOf(getValue(SettingsKeys.USE_COMPILED_MAPPING_PLANS,
+                                                                   SettingsDefaults.USE_COMPILED_MAPPING_PLANS).toString());
+
+        Boolean useConcurrentCaches = Boolean.valueOf(getValue(SettingsKeys.USE_CONCURRENT_CACHES,
+                                                               SettingsDefaults.USE_CONCURRENT_CACHES).toString());
+
+        Integer parallelCollectionMappingThreshold = Integer.valueOf(getValue(SettingsKeys.PARALLEL_COLLECTION_MAPPING_THRESHOLD,
+                                                                              SettingsDefaults.PARALLEL_COLLECTION_MAPPING_THRESHOLD).toString());
+
+        Boolean readDestBeforeWrite = Boolean.valueOf(getValue(SettingsKeys.READ_DEST_BEFORE_WRITE,
+                                                               SettingsDefaults.READ_DEST_BEFORE_WRITE).toString());
+
+        LazyLoadPolicy lazyLoadPolicy = LazyLoadPolicy.valueOf(getValue(SettingsKeys.LAZY_LOAD_POLICY,
+                                                                        SettingsDefaults.LAZY_LOAD_POLICY).toString());
+
+        return Settings.builder()
+                .withConverterByDestTypeCacheMaxSize(converterByDestTypeCacheMaxSize)
+                .withSuperTypesCacheMaxSize(superTypesCacheMaxSize)
+                .withClassLoaderBeanName(classLoaderBeanName)
+                .withProxyResolverBeanName(proxyResolverBeanName)
+                .withUseJaxbMappingEngine(useJaxbMappingEngine)
+                .withUseCompiledMappingPlans(useCompiledMappingPlans)
+                .withUseConcurrentCaches(useConcurrentCaches)
+                .withParallelCollectionMappingThreshold(parallelCollectionMappingThreshold)
+                .withReadDestBeforeWrite(readDestBeforeWrite)
+                .withLazyLoadPolicy(lazyLoadPolicy)
+                .build();
     }
 
     private void createSettingsResolvers() {
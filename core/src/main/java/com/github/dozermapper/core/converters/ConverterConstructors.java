@@ -0,0 +1,78 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.converters;
+
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+
+/**
+ * Internal cache of the public constructors converters instantiate destination types with. Constructors are looked up
+ * once per class without relying on {@link NoSuchMethodException}, missing constructors are cached as well.
+ * Only intended for internal use.
+ */
+final class ConverterConstructors {
+
+    private static final ClassValue<Constructor<?>> STRING_CONSTRUCTORS = constructorsTaking(String.class);
+    private static final ClassValue<Constructor<?>> LONG_CONSTRUCTORS = constructorsTaking(Long.TYPE);
+    private static final ClassValue<Constructor<?>> NO_ARG_CONSTRUCTORS = constructorsTaking();
+
+    private ConverterConstructors() {
+    }
+
+    /**
+     * Returns the public constructor taking a single String
+     *
+     * @param type class to instantiate
+     * @return constructor or null if the class has none
+     */
+    static Constructor<?> getStringConstructor(Class<?> type) {
+        return STRING_CONSTRUCTORS.get(type);
+    }
+
+    /**
+     * Returns the public constructor taking a single long
+     *
+     * @param type class to instantiate
+     * @return constructor or null if the class has none
+     */
+    static Constructor<?> getLongConstructor(Class<?> type) {
+        return LONG_CONSTRUCTORS.get(type);
+    }
+
+    /**
+     * Returns the public no-arg constructor
+     *
+     * @param type class to instantiate
+     * @return constructor or null if the class has none
+     */
+    static Constructor<?> getNoArgConstructor(Class<?> type) {
+        return NO_ARG_CONSTRUCTORS.get(type);
+    }
+
+    private static ClassValue<Constructor<?>> constructorsTaking(Class<?>... parameterTypes) {
+        return new ClassValue<Constructor<?>>() {
+            @Override
+            protected Constructor<?> computeValue(Class<?> type) {
+                for (Constructor<?> constructor : type.getConstructors()) {
+                    if (Arrays.equals(constructor.getParameterTypes(), parameterTypes)) {
+                        return constructor;
+                    }
+                }
+                return null;
+            }
+        };
+    }
+}
@@ -30,6 +30,11 @@ import org.apache.commons.lang3.builder.ToStringStyle;
  */
 public class CustomConverterContainer {
 
+    /**
+     * Cached when no converter applies, so a cache miss can be told apart from a negative result
+     */
+    private static final Object NO_CONVERTER = new Object();
+
     private List<CustomConverterDescription> converters = new ArrayList<>();
 
     public List<CustomConverterDescription> getConverters() {
@@ -54,8 +59,11 @@ public class CustomConverterContainer {
 
         // Check cache first
         final Object cacheKey = CacheKeyFactory.createKey(destClass, srcClass);
-        if (converterTypeCache.containsKey(cacheKey)) { // even null
-            return (Class)converterTypeCache.get(cacheKey);
+        final Object cachedConverter = converterTypeCache.get(cacheKey);
+        if (cachedConverter == NO_CONVERTER) {
+            return null;
+        } else if (cachedConverter != null) {
+            return (Class)cachedConverter;
         }
 
         // Let's see if the incoming class is a primitive:
@@ -63,7 +71,7 @@ public class CustomConverterContainer {
         final Class dest = ClassUtils.primitiveToWrapper(destClass);
 
         Class appropriateConverter = findConverter(src, dest);
-        converterTypeCache.put(cacheKey, appropriateConverter);
+        converterTypeCache.put(cacheKey, appropriateConverter != null ? appropriateConverter : NO_CONVERTER);
 
         return appropriateConverter;
     }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.converters;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.github.dozermapper.core.ConverterScope;
+import com.github.dozermapper.core.CustomConverter;
+import com.github.dozermapper.core.util.ReflectionUtils;
+
+/**
+ * Internal class resolving {@link CustomConverter} classes to instances. The instance to use is determined once per
+ * converter class: a matching converter instance passed to the mapper wins, otherwise the {@link ConverterScope} of
+ * the converter class is honoured. Only intended for internal use.
+ */
+public final class CustomConverterRegistry {
+
+    private final List<CustomConverter> customConverterObjects;
+    private final ConcurrentMap<Class<?>, Resolution> resolutions = new ConcurrentHashMap<>();
+
+    public CustomConverterRegistry(List<CustomConverter> customConverterObjects) {
+        this.customConverterObjects = customConverterObjects;
+    }
+
+    /**
+     * Returns the converter instance to use for a single conversion
+     *
+     * @param converterClass      converter class
+     * @param mappingScopedCache  instances of the current mapping call, keyed by converter class
+     * @return converter instance
+     */
+    public CustomConverter getConverter(Class<?> converterClass, Map<Class<?>, CustomConverter> mappingScopedCache) {
+        Resolution resolution = resolutions.get(converterClass);
+        if (resolution == null) {
+            resolution = resolve(converterClass);
+            Resolution previous = resolutions.putIfAbsent(converterClass, resolution);
+            if (previous != null) {
+                resolution = previous;
+            }
+        }
+
+        if (resolution.instance != null) {
+            return resolution.instance;
+        }
+
+        if (resolution.scope == ConverterScope.Type.MAPPING) {
+            CustomConverter result = mappingScopedCache.get(converterClass);
+            if (result == null) {
+                result = (CustomConverter)ReflectionUtils.newInstance(converterClass);
+                mappingScopedCache.put(converterClass, result);
+            }
+            return result;
+        }
+
+        return (CustomConverter)ReflectionUtils.newInstance(converterClass);
+    }
+
+    private Resolution resolve(Class<?> converterClass) {
+        // search the injected custom converters for a match, the last one wins
+        CustomConverter injected = null;
+        if (customConverterObjects != null) {
+            for (CustomConverter customConverterObject : customConverterObjects) {
+                if (converterClass.isInstance(customConverterObject)) {
+                    injected = customConverterObject;
+                }
+            }
+        }
+        if (injected != null) {
+            return new Resolution(ConverterScope.Type.SINGLETON, injected);
+        }
+
+        ConverterScope scope = converterClass.getAnnotation(ConverterScope.class);
+        if (scope == null || scope.value() == ConverterScope.Type.PROTOTYPE) {
+            return new Resolution(ConverterScope.Type.PROTOTYPE, null);
+        } else if (scope.value() == ConverterScope.Type.MAPPING) {
+            return new Resolution(ConverterScope.Type.MAPPING, null);
+        }
+
+        return new Resolution(ConverterScope.Type.SINGLETON, (CustomConverter)ReflectionUtils.newInstance(converterClass));
+    }
+
+    private static final class Resolution {
+
+        private final ConverterScope.Type scope;
+        private final CustomConverter instance;
+
+        private Resolution(ConverterScope.Type scope, CustomConverter instance) {
+            this.scope = scope;
+            this.instance = instance;
+        }
+    }
+}
@@ -82,8 +82,7 @@ public class DateConverter implements Converter {
 
         try {
             if (Calendar.class.isAssignableFrom(destClass)) {
-                Constructor constructor = destClass.getConstructor();
-                Calendar result = (Calendar)constructor.newInstance();
+                Calendar result = (Calendar)getConstructor(ConverterConstructors.getNoArgConstructor(destClass), destClass, "()").newInstance();
                 result.setTimeInMillis(time);
                 return result;
             }
@@ -92,15 +91,23 @@ public class DateConverter implements Converter {
                 return dateFormat.format(new java.util.Date(time));
             }
 
-            Constructor constructor = destClass.getConstructor(Long.TYPE);
-            Object result = constructor.newInstance(time);
+            Object result = getConstructor(ConverterConstructors.getLongConstructor(destClass), destClass, "(long)").newInstance(time);
             if (nanos != 0 && (Timestamp.class.isAssignableFrom(destClass))) {
                 ((Timestamp)result).setNanos(nanos);
             }
             return result;
+        } catch (ConversionException e) {
+            throw e;
         } catch (Exception e) {
             throw new ConversionException(e);
         }
     }
 
+    private static Constructor<?> getConstructor(Constructor<?> constructor, Class<?> destClass, String parameters) {
+        if (constructor == null) {
+            throw new ConversionException(new NoSuchMethodException(destClass.getName() + ".<init>" + parameters));
+        }
+        return constructor;
+    }
+
 }
@@ -19,26 +19,64 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
+import java.util.TimeZone;
 
 /**
- * Internal class used as a container to determine the date format to use for a particular field mapping. Only intended
- * for internal use.
+ * Internal class used as a container to determine the date format to use for a particular field mapping.
+ * <p>
+ * A container is reused by its field mapping and may be shared between threads. The immutable {@link DateTimeFormatter}
+ * is created once, while {@link SimpleDateFormat}s are not thread safe and change their own state when parsing, so
+ * every call to {@link #getDateFormat()} returns a copy of a prototype which is never used itself.
+ * Only intended for internal use.
  */
 public class DateFormatContainer {
 
-    private String dfStr;
+    private final String dfStr;
     private DateFormat dateFormat;
-    private DateTimeFormatter dateTimeFormatter;
+    private volatile DateFormatPrototype dateFormatPrototype;
+    private volatile DateTimeFormatter dateTimeFormatter;
 
     public DateFormatContainer(String dfStr) {
         this.dfStr = dfStr;
     }
 
+    /**
+     * Returns the date format for the pattern. Unless set explicitly, a new instance is returned by every call.
+     *
+     * @return date format or null if no pattern is specified
+     */
     public DateFormat getDateFormat() {
-        if (dateFormat == null) {
-            dateFormat = determineDateFormat();
+        if (dateFormat != null) {
+            return dateFormat;
         }
-        return dateFormat;
+        return dfStr == null ? null : (DateFormat)getDateFormatPrototype().clone();
+    }
+
+    /**
+     * Pattern this container was created for
+     *
+     * @return pattern or null
+     */
+    public String getPattern() {
+        return dfStr;
+    }
+
+    /**
+     * Whether a date format is available, without creating it
+     *
+     * @return true if {@link #getDateFormat()} returns a date format
+     */
+    boolean hasDateFormat() {
+        return dateFormat != null || dfStr != null;
+    }
+
+    /**
+     * Whether this container only depends on its pattern, i.e. no date format has been set explicitly
+     *
+     * @return true if the container can be shared by all mappings with the same pattern
+     */
+    boolean isShareable() {
+        return dateFormat == null;
     }
 
     /**
@@ -47,12 +85,17 @@ public class DateFormatContainer {
      * @return formatter
      */
     public DateTimeFormatter getDateTimeFormatter() {
-        if (dateTimeFormatter == null) {
-            if (dfStr != null) {
-                dateTimeFormatter = DateTimeFormatter.ofPattern(dfStr);
-            }
+        if (dfStr == null) {
+            return null;
+        }
+
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        DateTimeFormatter result = dateTimeFormatter;
+        if (result == null || !result.getLocale().equals(locale)) {
+            result = DateTimeFormatter.ofPattern(dfStr, locale);
+            dateTimeFormatter = result;
         }
-        return dateTimeFormatter;
+        return result;
     }
 
     /**
@@ -67,7 +110,25 @@ public class DateFormatContainer {
         this.dateFormat = dateFormat;
     }
 
-    private DateFormat determineDateFormat() {
-        return dfStr == null ? null : new SimpleDateFormat(dfStr, Locale.getDefault());
+    private DateFormat getDateFormatPrototype() {
+        // created for the default locale and time zone, and created again if they change
+        Locale locale = Locale.getDefault();
+        DateFormatPrototype result = dateFormatPrototype;
+        if (result == null || !result.locale.equals(locale) || !result.format.getTimeZone().equals(TimeZone.getDefault())) {
+            result = new DateFormatPrototype(locale, new SimpleDateFormat(dfStr, locale));
+            dateFormatPrototype = result;
+        }
+        return result.format;
+    }
+
+    private static final class DateFormatPrototype {
+
+        private final Locale locale;
+        private final DateFormat format;
+
+        private DateFormatPrototype(Locale locale, DateFormat format) {
+            this.locale = locale;
+            this.format = format;
+        }
     }
 }
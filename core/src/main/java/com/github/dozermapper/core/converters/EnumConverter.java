@@ -18,10 +18,10 @@ package com.github.dozermapper.core.converters;
 import com.github.dozermapper.core.util.MappingUtils;
 
 import org.apache.commons.beanutils.Converter;
-import org.apache.commons.lang3.EnumUtils;
 
 /**
- * Internal class for converting Supported Data Types to Enum. Only intended for internal use.
+ * Internal class for converting Supported Data Types to Enum. Numbers are converted by ordinal, other values by their
+ * string representation. Enums use the tables of {@link EnumMappings}. Only intended for internal use.
  */
 public class EnumConverter implements Converter {
 
@@ -32,14 +32,11 @@ public class EnumConverter implements Converter {
         }
 
         try {
-            if ((srcObj.getClass().equals(Byte.class)) || (srcObj.getClass().equals(Byte.TYPE))) {
-                return EnumUtils.getEnumList(destClass).get(((Byte)srcObj).intValue());
-            } else if ((srcObj.getClass().equals(Short.class)) || (srcObj.getClass().equals(Short.TYPE))) {
-                return EnumUtils.getEnumList(destClass).get(((Short)srcObj).intValue());
-            } else if ((srcObj.getClass().equals(Integer.class)) || (srcObj.getClass().equals(Integer.TYPE))) {
-                return EnumUtils.getEnumList(destClass).get((Integer)srcObj);
-            } else if ((srcObj.getClass().equals(Long.class)) || (srcObj.getClass().equals(Long.TYPE))) {
-                return EnumUtils.getEnumList(destClass).get(((Long)srcObj).intValue());
+            Class<?> srcClass = srcObj.getClass();
+            if (srcClass == Byte.class || srcClass == Short.class || srcClass == Integer.class || srcClass == Long.class) {
+                return EnumMappings.valueOf(destClass, ((Number)srcObj).intValue());
+            } else if (srcObj instanceof Enum) {
+                return EnumMappings.mapByString((Enum<?>)srcObj, destClass);
             } else {
                 return Enum.valueOf(destClass, srcObj.toString());
             }
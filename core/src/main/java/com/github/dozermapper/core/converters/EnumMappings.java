@@ -0,0 +1,126 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.converters;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Internal class holding lookup tables for mapping enums, computed the first time an enum or a pair of enums is seen.
+ * Constants are mapped to the constant of the destination enum named like their name or their string representation,
+ * numbers to the constant with that ordinal. Only intended for internal use.
+ */
+public final class EnumMappings {
+
+    private static final ClassValue<Enum<?>[]> CONSTANTS = new ClassValue<Enum<?>[]>() {
+        @Override
+        protected Enum<?>[] computeValue(Class<?> type) {
+            return (Enum<?>[])type.getEnumConstants();
+        }
+    };
+
+    // destination enum -> source enum -> destination constants indexed by source ordinal, matched by name
+    private static final ClassValue<ClassValue<Enum<?>[]>> TABLES = newTables(Enum::name);
+    // destination enum -> source enum -> destination constants indexed by source ordinal, matched by toString()
+    private static final ClassValue<ClassValue<Enum<?>[]>> TO_STRING_TABLES = newTables(Enum::toString);
+
+    private EnumMappings() {
+    }
+
+    /**
+     * Maps the constant to the constant of the destination enum with the same name
+     *
+     * @param srcValue  constant to map
+     * @param destClass destination enum or the class of one of its constants
+     * @param <T>       destination enum
+     * @return constant of the destination enum
+     * @throws IllegalArgumentException if the destination enum has no constant with that name
+     */
+    public static <T extends Enum<T>> T map(Enum<?> srcValue, Class<?> destClass) {
+        return lookup(TABLES, srcValue, srcValue.name(), destClass);
+    }
+
+    /**
+     * Maps the constant to the constant of the destination enum named like the string representation of the constant,
+     * like {@link Enum#valueOf(Class, String)} of {@link Enum#toString()} does
+     *
+     * @param srcValue  constant to map
+     * @param destClass destination enum or the class of one of its constants
+     * @param <T>       destination enum
+     * @return constant of the destination enum
+     * @throws IllegalArgumentException if the destination enum has no constant with that name
+     */
+    public static <T extends Enum<T>> T mapByString(Enum<?> srcValue, Class<?> destClass) {
+        return lookup(TO_STRING_TABLES, srcValue, srcValue.toString(), destClass);
+    }
+
+    /**
+     * Returns the constant with the ordinal
+     *
+     * @param destClass destination enum or the class of one of its constants
+     * @param ordinal   ordinal of the constant
+     * @return constant of the destination enum
+     * @throws ArrayIndexOutOfBoundsException if the destination enum has no constant with that ordinal
+     */
+    public static Enum<?> valueOf(Class<?> destClass, int ordinal) {
+        return CONSTANTS.get(getEnumClass(destClass))[ordinal];
+    }
+
+    private static Class<?> getEnumClass(Class<?> type) {
+        // constants with a body are instances of an anonymous subclass of the enum
+        return type.isEnum() ? type : type.getSuperclass();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Enum<T>> T lookup(ClassValue<ClassValue<Enum<?>[]>> tables, Enum<?> srcValue, String srcKey,
+                                                Class<?> destClass) {
+        Class<?> destEnum = getEnumClass(destClass);
+        Enum<?> result = tables.get(destEnum).get(srcValue.getDeclaringClass())[srcValue.ordinal()];
+        if (result == null) {
+            throw new IllegalArgumentException("No enum constant " + destEnum.getCanonicalName() + "." + srcKey);
+        }
+        return (T)result;
+    }
+
+    private static ClassValue<ClassValue<Enum<?>[]>> newTables(Function<Enum<?>, String> srcKey) {
+        return new ClassValue<ClassValue<Enum<?>[]>>() {
+            @Override
+            protected ClassValue<Enum<?>[]> computeValue(Class<?> destClass) {
+                return new ClassValue<Enum<?>[]>() {
+                    @Override
+                    protected Enum<?>[] computeValue(Class<?> srcClass) {
+                        return createTable(srcClass, destClass, srcKey);
+                    }
+                };
+            }
+        };
+    }
+
+    private static Enum<?>[] createTable(Class<?> srcClass, Class<?> destClass, Function<Enum<?>, String> srcKey) {
+        Map<String, Enum<?>> destConstants = new HashMap<>();
+        for (Enum<?> constant : CONSTANTS.get(destClass)) {
+            destConstants.put(constant.name(), constant);
+        }
+
+        Enum<?>[] srcConstants = CONSTANTS.get(srcClass);
+        Enum<?>[] table = new Enum<?>[srcConstants.length];
+        for (Enum<?> constant : srcConstants) {
+            table[constant.ordinal()] = destConstants.get(srcKey.apply(constant));
+        }
+        return table;
+    }
+}
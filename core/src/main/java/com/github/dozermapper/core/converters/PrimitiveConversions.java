@@ -0,0 +1,127 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.converters;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * Internal class holding a precomputed matrix of direct conversions between primitive, wrapper, big number and String
+ * values. It covers identity and widening conversions, the String representation of such values and parsing Strings
+ * into numbers, which make up the bulk of all primitive conversions. The results are identical to those of the
+ * converters used by {@link PrimitiveOrWrapperConverter}; everything else, including narrowing conversions and
+ * failures, is left to them. Only intended for internal use.
+ */
+final class PrimitiveConversions {
+
+    private static final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> CONVERSIONS = new HashMap<>();
+
+    static {
+        Class<?>[] types = {Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class,
+                            Double.class, BigInteger.class, BigDecimal.class, String.class};
+        for (Class<?> type : types) {
+            register(type, type, Function.identity());
+            if (type != String.class) {
+                register(type, String.class, Object::toString);
+            }
+        }
+
+        register(Boolean.class, Byte.class, value -> (Boolean)value ? (byte)1 : (byte)0);
+        register(Boolean.class, Short.class, value -> (Boolean)value ? (short)1 : (short)0);
+        register(Boolean.class, Integer.class, value -> (Boolean)value ? 1 : 0);
+        register(Boolean.class, Long.class, value -> (Boolean)value ? 1L : 0L);
+
+        Class<?>[] integralTypes = {Byte.class, Short.class, Integer.class, Long.class};
+        for (int i = 0; i < integralTypes.length; i++) {
+            for (int j = i + 1; j < integralTypes.length; j++) {
+                register(integralTypes[i], integralTypes[j], widening(integralTypes[j]));
+            }
+            register(integralTypes[i], Float.class, value -> ((Number)value).floatValue());
+            register(integralTypes[i], Double.class, value -> ((Number)value).doubleValue());
+            register(integralTypes[i], BigInteger.class, value -> BigInteger.valueOf(((Number)value).longValue()));
+            register(integralTypes[i], BigDecimal.class, value -> BigDecimal.valueOf(((Number)value).longValue()));
+        }
+        register(Float.class, Double.class, value -> ((Number)value).doubleValue());
+
+        register(String.class, Byte.class, parsing(Byte::valueOf));
+        register(String.class, Short.class, parsing(Short::valueOf));
+        register(String.class, Integer.class, parsing(Integer::valueOf));
+        register(String.class, Long.class, parsing(Long::valueOf));
+        register(String.class, Float.class, parsing(Float::valueOf));
+        register(String.class, Double.class, parsing(Double::valueOf));
+        register(String.class, BigInteger.class, parsing(BigInteger::new));
+        register(String.class, BigDecimal.class, parsing(BigDecimal::new));
+    }
+
+    private PrimitiveConversions() {
+    }
+
+    /**
+     * Returns the direct conversion between the given types
+     *
+     * @param srcClass  class of the source value
+     * @param destClass destination class, primitive or wrapper
+     * @return conversion or null if there is none. The conversion itself returns null if the value has to be
+     * converted by the regular converters.
+     */
+    static Function<Object, Object> find(Class<?> srcClass, Class<?> destClass) {
+        Map<Class<?>, Function<Object, Object>> byDestClass = CONVERSIONS.get(srcClass);
+        return byDestClass == null ? null : byDestClass.get(destClass);
+    }
+
+    private static void register(Class<?> srcClass, Class<?> destClass, Function<Object, Object> conversion) {
+        Map<Class<?>, Function<Object, Object>> byDestClass = CONVERSIONS.computeIfAbsent(srcClass, key -> new HashMap<>());
+        byDestClass.put(destClass, conversion);
+
+        Class<?> primitiveDestClass = ClassUtils.wrapperToPrimitive(destClass);
+        if (primitiveDestClass != null) {
+            byDestClass.put(primitiveDestClass, conversion);
+        }
+    }
+
+    private static Function<Object, Object> widening(Class<?> destClass) {
+        if (destClass == Short.class) {
+            return value -> ((Number)value).shortValue();
+        } else if (destClass == Integer.class) {
+            return value -> ((Number)value).intValue();
+        } else {
+            return value -> ((Number)value).longValue();
+        }
+    }
+
+    /**
+     * Values which can not be parsed are handed over to the regular converters, which report the failure
+     */
+    private static Function<Object, Object> parsing(Function<String, Object> parser) {
+        return value -> {
+            String trimmed = ((String)value).trim();
+            if (trimmed.isEmpty()) {
+                return null;
+            }
+
+            try {
+                return parser.apply(trimmed);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        };
+    }
+}
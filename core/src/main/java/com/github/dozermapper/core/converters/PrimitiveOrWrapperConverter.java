@@ -25,7 +25,12 @@ import java.time.OffsetTime;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 import javax.xml.bind.JAXBElement;
 import javax.xml.datatype.XMLGregorianCalendar;
@@ -44,7 +49,10 @@ import org.apache.commons.beanutils.converters.FloatConverter;
 import org.apache.commons.lang3.ClassUtils;
 
 /**
- * Internal class for converting between wrapper types(including primitives). Only intended for internal use.
+ * Internal class for converting between wrapper types(including primitives).
+ * <p>
+ * Converters which do not depend on a {@link java.text.DateFormat} are stateless and are shared between conversions
+ * with the same destination type, date format pattern and locale. Only intended for internal use.
  */
 public class PrimitiveOrWrapperConverter {
 
@@ -65,6 +73,7 @@ public class PrimitiveOrWrapperConverter {
     }
 
     private final BeanContainer beanContainer;
+    private final ConcurrentMap<ConverterKey, Converter> sharedConverters = new ConcurrentHashMap<>();
 
     public PrimitiveOrWrapperConverter(BeanContainer beanContainer) {
         this.beanContainer = beanContainer;
@@ -78,6 +87,13 @@ public class PrimitiveOrWrapperConverter {
         if (srcFieldValue == null || destFieldClass == null || (srcFieldValue.equals("") && !destFieldClass.equals(String.class))) {
             return null;
         }
+        Function<Object, Object> conversion = PrimitiveConversions.find(srcFieldValue.getClass(), destFieldClass);
+        if (conversion != null) {
+            Object result = conversion.apply(srcFieldValue);
+            if (result != null) {
+                return result;
+            }
+        }
         Converter converter = getPrimitiveOrWrapperConverter(destFieldClass, dateFormatContainer, destFieldName, destObj);
         try {
             return converter.convert(destFieldClass, unwrapSrcFieldValue(srcFieldValue));
@@ -94,31 +110,52 @@ public class PrimitiveOrWrapperConverter {
     }
 
     private Converter getPrimitiveOrWrapperConverter(Class destClass, DateFormatContainer dateFormatContainer, String destFieldName, Object destObj) {
-        if (String.class.equals(destClass)) {
-            return new StringConverter(dateFormatContainer);
+        if (!String.class.equals(destClass)) {
+            Converter result = CONVERTER_MAP.get(ClassUtils.primitiveToWrapper(destClass));
+            if (result != null) {
+                return result;
+            }
         }
 
-        Converter result = CONVERTER_MAP.get(ClassUtils.primitiveToWrapper(destClass));
+        if (dateFormatContainer == null || !dateFormatContainer.isShareable() || usesDateFormat(destClass)) {
+            return createConverter(destClass, dateFormatContainer, destFieldName, destObj);
+        }
 
+        ConverterKey key = new ConverterKey(destClass, dateFormatContainer.getPattern(), Locale.getDefault(Locale.Category.FORMAT));
+        Converter result = sharedConverters.get(key);
         if (result == null) {
-            if (java.util.Date.class.isAssignableFrom(destClass)) {
-                result = new DateConverter(dateFormatContainer.getDateFormat());
-            } else if (Calendar.class.isAssignableFrom(destClass)) {
-                result = new CalendarConverter(dateFormatContainer.getDateFormat());
-            } else if (XMLGregorianCalendar.class.isAssignableFrom(destClass)) {
-                result = new XMLGregorianCalendarConverter(dateFormatContainer.getDateFormat());
-            } else if (MappingUtils.isEnumType(destClass)) {
-                result = new EnumConverter();
-            } else if (JAXBElement.class.isAssignableFrom(destClass) && destFieldName != null) {
-                result = new JAXBElementConverter(destObj.getClass().getCanonicalName(), destFieldName, dateFormatContainer.getDateFormat(), beanContainer);
-            } else if (isLocalTime(destClass)) {
-                result = new LocalDateTimeConverter(dateFormatContainer.getDateTimeFormatter());
-            } else if (isOffsetTime(destClass)) {
-                result = new OffsetDateTimeConverter(dateFormatContainer.getDateTimeFormatter());
-            } else if (ZonedDateTime.class.isAssignableFrom(destClass)) {
-                result = new ZonedDateTimeConverter(dateFormatContainer.getDateTimeFormatter());
+            result = createConverter(destClass, dateFormatContainer, destFieldName, destObj);
+            Converter previous = sharedConverters.putIfAbsent(key, result);
+            if (previous != null) {
+                result = previous;
             }
         }
+        return result;
+    }
+
+    private Converter createConverter(Class destClass, DateFormatContainer dateFormatContainer, String destFieldName, Object destObj) {
+        if (String.class.equals(destClass)) {
+            return new StringConverter(dateFormatContainer);
+        }
+
+        Converter result = null;
+        if (java.util.Date.class.isAssignableFrom(destClass)) {
+            result = new DateConverter(dateFormatContainer.getDateFormat());
+        } else if (Calendar.class.isAssignableFrom(destClass)) {
+            result = new CalendarConverter(dateFormatContainer.getDateFormat());
+        } else if (XMLGregorianCalendar.class.isAssignableFrom(destClass)) {
+            result = new XMLGregorianCalendarConverter(dateFormatContainer.getDateFormat());
+        } else if (MappingUtils.isEnumType(destClass)) {
+            result = new EnumConverter();
+        } else if (JAXBElement.class.isAssignableFrom(destClass) && destFieldName != null) {
+            result = new JAXBElementConverter(destObj.getClass().getCanonicalName(), destFieldName, dateFormatContainer.getDateFormat(), beanContainer);
+        } else if (isLocalTime(destClass)) {
+            result = new LocalDateTimeConverter(dateFormatContainer.getDateTimeFormatter());
+        } else if (isOffsetTime(destClass)) {
+            result = new OffsetDateTimeConverter(dateFormatContainer.getDateTimeFormatter());
+        } else if (ZonedDateTime.class.isAssignableFrom(destClass)) {
+            result = new ZonedDateTimeConverter(dateFormatContainer.getDateTimeFormatter());
+        }
         return result == null ? new StringConstructorConverter(dateFormatContainer) : result;
     }
 
@@ -149,4 +186,47 @@ public class PrimitiveOrWrapperConverter {
         return OffsetDateTime.class.isAssignableFrom(clazz) ||
                OffsetTime.class.isAssignableFrom(clazz);
     }
+
+    /**
+     * Converters for legacy date types hold a DateFormat, which is not thread safe, so they can not be shared
+     */
+    private static boolean usesDateFormat(Class clazz) {
+        return java.util.Date.class.isAssignableFrom(clazz)
+               || Calendar.class.isAssignableFrom(clazz)
+               || XMLGregorianCalendar.class.isAssignableFrom(clazz)
+               || JAXBElement.class.isAssignableFrom(clazz);
+    }
+
+    private static final class ConverterKey {
+
+        private final Class<?> destClass;
+        private final String pattern;
+        private final Locale locale;
+        private final int hash;
+
+        private ConverterKey(Class<?> destClass, String pattern, Locale locale) {
+            this.destClass = destClass;
+            this.pattern = pattern;
+            this.locale = locale;
+            this.hash = 31 * (31 * destClass.hashCode() + Objects.hashCode(pattern)) + locale.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ConverterKey)) {
+                return false;
+            }
+
+            ConverterKey that = (ConverterKey)o;
+            return destClass == that.destClass && Objects.equals(pattern, that.pattern) && locale.equals(that.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
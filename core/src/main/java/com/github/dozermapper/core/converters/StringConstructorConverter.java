@@ -33,12 +33,14 @@ public class StringConstructorConverter implements Converter {
 
     public Object convert(Class destClass, Object srcObj) {
         String result = (String)stringConverter.convert(destClass, srcObj);
-        try {
-            Constructor constructor = destClass.getConstructor(String.class); // TODO Check, but not catch
-            return constructor.newInstance(result);
-        } catch (NoSuchMethodException e) {
+        Constructor<?> constructor = ConverterConstructors.getStringConstructor(destClass);
+        if (constructor == null) {
             // just return the string
             return result;
+        }
+
+        try {
+            return constructor.newInstance(result);
         } catch (Exception e) {
             throw new ConversionException(e);
         }
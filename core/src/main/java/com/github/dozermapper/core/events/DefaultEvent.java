@@ -30,6 +30,7 @@ public class DefaultEvent implements Event {
     private final FieldMap fieldMap;
     private final Object sourceObject;
     private final Object destinationObject;
+    private final Object sourceValue;
     private final Object destinationValue;
 
     /**
@@ -44,11 +45,28 @@ public class DefaultEvent implements Event {
      */
     public DefaultEvent(EventTypes type, ClassMap classMap, FieldMap fieldMap, Object sourceObject, Object destinationObject,
                         Object destinationValue) {
+        this(type, classMap, fieldMap, sourceObject, destinationObject, null, destinationValue);
+    }
+
+    /**
+     * Event details
+     *
+     * @param type              type of event
+     * @param classMap          classmap being used by mapper
+     * @param fieldMap          fieldMap being used by mapper
+     * @param sourceObject      source being mapped
+     * @param destinationObject destination being mapped
+     * @param sourceValue       source value being mapped
+     * @param destinationValue  destination value being mapped
+     */
+    public DefaultEvent(EventTypes type, ClassMap classMap, FieldMap fieldMap, Object sourceObject, Object destinationObject,
+                        Object sourceValue, Object destinationValue) {
         this.type = type;
         this.classMap = classMap;
         this.fieldMap = fieldMap;
         this.sourceObject = sourceObject;
         this.destinationObject = destinationObject;
+        this.sourceValue = sourceValue;
         this.destinationValue = destinationValue;
     }
 
@@ -92,6 +110,14 @@ public class DefaultEvent implements Event {
         return destinationObject;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getSourceValue() {
+        return sourceValue;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -108,6 +134,7 @@ public class DefaultEvent implements Event {
                 .append("fieldMap", fieldMap)
                 .append("sourceObject", sourceObject)
                 .append("destinationObject", destinationObject)
+                .append("sourceValue", sourceValue)
                 .append("destinationValue", destinationValue)
                 .toString();
     }
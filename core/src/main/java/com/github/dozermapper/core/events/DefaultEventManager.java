@@ -15,16 +15,21 @@
  */
 package com.github.dozermapper.core.events;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import com.github.dozermapper.core.MappingException;
 
 /**
- * Event manager which simply fires to the corrasponding {@link EventListener}
+ * Event manager which simply fires to the corrasponding {@link EventListener}.
+ * Listeners are grouped by the {@link EventTypes} they override a callback for when the manager is created.
  */
 public final class DefaultEventManager implements EventManager {
 
-    private final List<? extends EventListener> eventListeners;
+    private static final EventListener[] NO_LISTENERS = new EventListener[0];
+
+    private final EventListener[][] listenersByType = new EventListener[EventTypes.values().length][];
 
     /**
      * Event manager which simply fires to the corrasponding {@link EventListener}
@@ -32,7 +37,21 @@ public final class DefaultEventManager implements EventManager {
      * @param eventListeners event listeners to callback to
      */
     public DefaultEventManager(List<? extends EventListener> eventListeners) {
-        this.eventListeners = eventListeners;
+        List<List<EventListener>> subscriptions = new ArrayList<>();
+        for (EventTypes type : EventTypes.values()) {
+            subscriptions.add(new ArrayList<>());
+        }
+
+        if (eventListeners != null) {
+            for (EventListener listener : eventListeners) {
+                subscribe(listener, subscriptions);
+            }
+        }
+
+        for (EventTypes type : EventTypes.values()) {
+            List<EventListener> subscribed = subscriptions.get(type.ordinal());
+            listenersByType[type.ordinal()] = subscribed.isEmpty() ? NO_LISTENERS : subscribed.toArray(NO_LISTENERS);
+        }
     }
 
     /**
@@ -40,25 +59,81 @@ public final class DefaultEventManager implements EventManager {
      */
     @Override
     public void on(Event event) {
-        if (eventListeners != null) {
-            for (EventListener listener : eventListeners) {
-                switch (event.getType()) {
-                    case MAPPING_STARTED:
-                        listener.onMappingStarted(event);
-                        break;
-                    case MAPPING_PRE_WRITING_DEST_VALUE:
-                        listener.onPreWritingDestinationValue(event);
-                        break;
-                    case MAPPING_POST_WRITING_DEST_VALUE:
-                        listener.onPostWritingDestinationValue(event);
-                        break;
-                    case MAPPING_FINISHED:
-                        listener.onMappingFinished(event);
-                        break;
-                    default:
-                        throw new MappingException("Unsupported event type: " + event.getType());
-                }
+        for (EventListener listener : listenersByType[event.getType().ordinal()]) {
+            switch (event.getType()) {
+                case MAPPING_STARTED:
+                    listener.onMappingStarted(event);
+                    break;
+                case MAPPING_PRE_WRITING_DEST_VALUE:
+                    listener.onPreWritingDestinationValue(event);
+                    break;
+                case MAPPING_POST_WRITING_DEST_VALUE:
+                    listener.onPostWritingDestinationValue(event);
+                    break;
+                case MAPPING_UNINITIALIZED_SRC_VALUE:
+                    listener.onUninitializedSourceValue(event);
+                    break;
+                case MAPPING_FINISHED:
+                    listener.onMappingFinished(event);
+                    break;
+                default:
+                    throw new MappingException("Unsupported event type: " + event.getType());
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled(EventTypes type) {
+        return listenersByType[type.ordinal()].length > 0;
+    }
+
+    /**
+     * Subscribes the listener to the event types it overrides a callback for. A listener which does not override any
+     * callback (i.e. a proxy or mock relying on the interface defaults) is subscribed to all event types.
+     */
+    private static void subscribe(EventListener listener, List<List<EventListener>> subscriptions) {
+        List<EventTypes> overridden = new ArrayList<>();
+        for (EventTypes type : EventTypes.values()) {
+            if (overridesCallback(listener, type)) {
+                overridden.add(type);
             }
         }
+
+        for (EventTypes type : overridden.isEmpty() ? Arrays.asList(EventTypes.values()) : overridden) {
+            subscriptions.get(type.ordinal()).add(listener);
+        }
+    }
+
+    private static boolean overridesCallback(EventListener listener, EventTypes type) {
+        String callback;
+        switch (type) {
+            case MAPPING_STARTED:
+                callback = "onMappingStarted";
+                break;
+            case MAPPING_PRE_WRITING_DEST_VALUE:
+                callback = "onPreWritingDestinationValue";
+                break;
+            case MAPPING_POST_WRITING_DEST_VALUE:
+                callback = "onPostWritingDestinationValue";
+                break;
+            case MAPPING_UNINITIALIZED_SRC_VALUE:
+                callback = "onUninitializedSourceValue";
+                break;
+            case MAPPING_FINISHED:
+                callback = "onMappingFinished";
+                break;
+            default:
+                throw new MappingException("Unsupported event type: " + type);
+        }
+
+        try {
+            // the no-op default of EventListener means the listener is not interested
+            return listener.getClass().getMethod(callback, Event.class).getDeclaringClass() != EventListener.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
     }
 }
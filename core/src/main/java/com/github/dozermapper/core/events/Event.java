@@ -58,6 +58,15 @@ public interface Event {
      */
     Object getDestinationObject();
 
+    /**
+     * Returns source value being mapped
+     *
+     * @return source value being mapped, null if the event does not refer to a single source value
+     */
+    default Object getSourceValue() {
+        return null;
+    }
+
     /**
      * Returns destination value being mapped
      *
@@ -16,11 +16,16 @@
 package com.github.dozermapper.core.events;
 
 import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.classmap.LazyLoadPolicy;
 
 /**
  * Event listener callback handler which if implemented allows listening to triggered events
  * while the {@link Mapper} is processing.
  * <p>
+ * All callbacks default to doing nothing. Only callbacks which are overridden subscribe the listener
+ * to the corresponding {@link EventTypes}, so a listener does not slow down events it ignores.
+ * A listener overriding none of the callbacks, i.e. a proxy, is subscribed to all of them.
+ * <p>
  * See: <a href="https://dozermapper.github.io/gitbook/documentation/events.html">
  * https://dozermapper.github.io/gitbook/documentation/events.html</a>
  */
@@ -31,26 +36,40 @@ public interface EventListener {
      *
      * @param event event details
      */
-    void onMappingStarted(Event event);
+    default void onMappingStarted(Event event) {
+    }
 
     /**
      * Triggered when {@link Mapper} is about to write the destination value
      *
      * @param event event details
      */
-    void onPreWritingDestinationValue(Event event);
+    default void onPreWritingDestinationValue(Event event) {
+    }
 
     /**
      * Triggered when {@link Mapper} has written the destination value
      *
      * @param event event details
      */
-    void onPostWritingDestinationValue(Event event);
+    default void onPostWritingDestinationValue(Event event) {
+    }
+
+    /**
+     * Triggered when {@link Mapper} did not map a source value which has not been loaded yet, because the
+     * lazy load policy of the field is {@link LazyLoadPolicy#CALLBACK}. The uninitialized source value is
+     * available via {@link Event#getSourceValue()}, the destination value of the event is null.
+     *
+     * @param event event details
+     */
+    default void onUninitializedSourceValue(Event event) {
+    }
 
     /**
      * Triggered when {@link Mapper} has finished
      *
      * @param event event details
      */
-    void onMappingFinished(Event event);
+    default void onMappingFinished(Event event) {
+    }
 }
@@ -27,4 +27,15 @@ public interface EventManager {
      * @param event event details
      */
     void on(Event event);
+
+    /**
+     * Returns whether an event of the given type would reach any listener. The mapper checks this
+     * before creating an event, so events nobody listens to are never allocated.
+     *
+     * @param type type of event
+     * @return true if events of this type should be triggered
+     */
+    default boolean isEnabled(EventTypes type) {
+        return true;
+    }
 }
@@ -37,6 +37,11 @@ public enum EventTypes {
      */
     MAPPING_POST_WRITING_DEST_VALUE,
 
+    /**
+     * {@link Mapper} did not map a source value which has not been loaded yet
+     */
+    MAPPING_UNINITIALIZED_SRC_VALUE,
+
     /**
      * {@link Mapper} has finished processing
      */
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.events;
+
+/**
+ * EventManager implementation that has no implementation logic.
+ * Used when no {@link EventListener} is registered, so no events are created at all.
+ */
+public final class NoopEventManager implements EventManager {
+
+    /**
+     * Note, this method does nothing
+     *
+     * @param event event details
+     */
+    @Override
+    public void on(Event event) {
+        //noop
+    }
+
+    /**
+     * Note, this method always returns false
+     *
+     * @param type type of event
+     * @return false
+     */
+    @Override
+    public boolean isEnabled(EventTypes type) {
+        return false;
+    }
+}
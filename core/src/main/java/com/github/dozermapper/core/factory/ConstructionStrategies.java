@@ -110,6 +110,16 @@ public final class ConstructionStrategies {
 
         private final BeanContainer beanContainer;
 
+        // <create method, resolved method> per class declaring the create method
+        private final ClassValue<ConcurrentMap<String, Method>> methodsByClass = new ClassValue<ConcurrentMap<String, Method>>() {
+            @Override
+            protected ConcurrentMap<String, Method> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+        // <fully qualified create method, resolved method>
+        private final ConcurrentMap<String, Method> qualifiedMethods = new ConcurrentHashMap<>();
+
         ByCreateMethod(BeanContainer beanContainer) {
             this.beanContainer = beanContainer;
         }
@@ -120,18 +130,28 @@ public final class ConstructionStrategies {
         }
 
         public Object create(BeanCreationDirective directive) {
-            Class<?> actualClass = directive.getActualClass();
-            String createMethod = directive.getCreateMethod();
+            return create(directive.getActualClass(), directive.getCreateMethod());
+        }
 
+        Object create(Class<?> actualClass, String createMethod) {
             Method method;
             if (createMethod.contains(".")) {
-                String methodName = createMethod.substring(createMethod.lastIndexOf(".") + 1, createMethod.length());
-                String typeName = createMethod.substring(0, createMethod.lastIndexOf("."));
-                DozerClassLoader loader = beanContainer.getClassLoader();
-                Class type = loader.loadClass(typeName);
-                method = findMethod(type, methodName);
+                method = qualifiedMethods.get(createMethod);
+                if (method == null) {
+                    String methodName = createMethod.substring(createMethod.lastIndexOf(".") + 1, createMethod.length());
+                    String typeName = createMethod.substring(0, createMethod.lastIndexOf("."));
+                    DozerClassLoader loader = beanContainer.getClassLoader();
+                    Class type = loader.loadClass(typeName);
+                    method = findMethod(type, methodName);
+                    qualifiedMethods.putIfAbsent(createMethod, method);
+                }
             } else {
-                method = findMethod(actualClass, createMethod);
+                ConcurrentMap<String, Method> methods = methodsByClass.get(actualClass);
+                method = methods.get(createMethod);
+                if (method == null) {
+                    method = findMethod(actualClass, createMethod);
+                    methods.putIfAbsent(createMethod, method);
+                }
             }
             return ReflectionUtils.invoke(method, null, null);
         }
@@ -164,8 +184,7 @@ public final class ConstructionStrategies {
         }
 
         public Object create(BeanCreationDirective directive) {
-            directive.setCreateMethod("getInstance");
-            return super.create(directive);
+            return create(directive.getActualClass(), "getInstance");
         }
     }
 
@@ -349,6 +368,23 @@ public final class ConstructionStrategies {
 
     static class ByConstructor implements BeanCreationStrategy {
 
+        // accessible no-arg constructor, null if the class has none
+        private static final ClassValue<Constructor<?>> NO_ARG_CONSTRUCTORS = new ClassValue<Constructor<?>>() {
+            @Override
+            protected Constructor<?> computeValue(Class<?> type) {
+                for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+                    if (constructor.getParameterCount() == 0) {
+                        // If private, make it accessible
+                        if (!constructor.isAccessible()) {
+                            constructor.setAccessible(true);
+                        }
+                        return constructor;
+                    }
+                }
+                return null;
+            }
+        };
+
         public boolean isApplicable(BeanCreationDirective directive) {
             return true;
         }
@@ -372,22 +408,13 @@ public final class ConstructionStrategies {
             //Create using public or private no-arg constructor
             Constructor<T> constructor = null;
             try {
-                constructor = clazz.getDeclaredConstructor(null);
+                constructor = (Constructor<T>)NO_ARG_CONSTRUCTORS.get(clazz);
             } catch (SecurityException e) {
                 MappingUtils.throwMappingException(e);
-            } catch (NoSuchMethodException e) {
-                MappingUtils.throwMappingException(e);
             }
 
             if (constructor == null) {
-                MappingUtils.throwMappingException("Could not create a new instance of the dest object: "
-                                                   + clazz
-                                                   + ".  Could not find a no-arg constructor for this class.");
-            }
-
-            // If private, make it accessible
-            if (!constructor.isAccessible()) {
-                constructor.setAccessible(true);
+                MappingUtils.throwMappingException(new NoSuchMethodException(clazz.getName() + ".<init>()"));
             }
 
             T result = null;
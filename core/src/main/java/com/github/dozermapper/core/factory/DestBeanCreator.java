@@ -15,10 +15,11 @@
  */
 package com.github.dozermapper.core.factory;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import com.github.dozermapper.core.BeanFactory;
@@ -30,10 +31,12 @@ import com.github.dozermapper.core.config.BeanContainer;
  */
 public final class DestBeanCreator {
 
-    static final List<BeanCreationStrategy> pluggedStrategies = new ArrayList<>();
+    static final List<BeanCreationStrategy> pluggedStrategies = new CopyOnWriteArrayList<>();
 
     // order in this collection determines resolving priority
     private final BeanCreationStrategy[] availableStrategies;
+    // <creation settings of a directive, first applicable available strategy>
+    private final ConcurrentMap<StrategyKey, BeanCreationStrategy> resolvedStrategies = new ConcurrentHashMap<>();
     private final ConstructionStrategies constructionStrategies;
     private final BeanContainer beanContainer;
 
@@ -64,12 +67,32 @@ public final class DestBeanCreator {
     public Object create(BeanCreationDirective directive) {
         Object result = applyStrategies(directive, pluggedStrategies);
         if (result == null) {
-            result = applyStrategies(directive, Arrays.asList(availableStrategies));
+            result = resolveStrategy(directive).create(directive);
         }
 
         return result;
     }
 
+    /**
+     * Available strategies only depend on the classes, factory, create method and skip constructor flag of the
+     * directive, so the applicable one is resolved once per combination. Plugged strategies may depend on anything
+     * and are checked for every directive.
+     */
+    private BeanCreationStrategy resolveStrategy(BeanCreationDirective directive) {
+        StrategyKey key = new StrategyKey(directive);
+        BeanCreationStrategy strategy = resolvedStrategies.get(key);
+        if (strategy == null) {
+            for (BeanCreationStrategy candidate : availableStrategies) {
+                if (candidate.isApplicable(directive)) {
+                    strategy = candidate;
+                    break;
+                }
+            }
+            resolvedStrategies.putIfAbsent(key, strategy);
+        }
+        return strategy;
+    }
+
     private Object applyStrategies(BeanCreationDirective directive, List<BeanCreationStrategy> strategies) {
         // TODO create method lookup by annotation/convention
         // TODO Cache ConstructionStrategy (reuse caching infrastructure)
@@ -77,7 +100,7 @@ public final class DestBeanCreator {
         // TODO Directive toString()
         // TODO review and document
 
-        for (BeanCreationStrategy strategy : new CopyOnWriteArrayList<>(strategies)) {
+        for (BeanCreationStrategy strategy : strategies) {
             if (strategy.isApplicable(directive)) {
                 return strategy.create(directive);
             }
@@ -93,4 +116,40 @@ public final class DestBeanCreator {
         pluggedStrategies.add(strategy);
     }
 
+    private static final class StrategyKey {
+
+        private final Class<?> targetClass;
+        private final Class<?> alternateClass;
+        private final String factoryName;
+        private final String createMethod;
+        private final boolean skipConstructor;
+
+        private StrategyKey(BeanCreationDirective directive) {
+            this.targetClass = directive.getTargetClass();
+            this.alternateClass = directive.getAlternateClass();
+            this.factoryName = directive.getFactoryName();
+            this.createMethod = directive.getCreateMethod();
+            this.skipConstructor = Boolean.TRUE.equals(directive.isSkipConstructor());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof StrategyKey)) {
+                return false;
+            }
+
+            StrategyKey that = (StrategyKey)o;
+            return targetClass == that.targetClass && alternateClass == that.alternateClass && skipConstructor == that.skipConstructor
+                   && Objects.equals(factoryName, that.factoryName) && Objects.equals(createMethod, that.createMethod);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(targetClass, alternateClass, factoryName, createMethod, skipConstructor);
+        }
+    }
+
 }
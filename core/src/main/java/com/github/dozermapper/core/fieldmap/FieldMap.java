@@ -15,17 +15,18 @@
  */
 package com.github.dozermapper.core.fieldmap;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.Objects;
 
 import com.github.dozermapper.core.BeanBuilder;
 import com.github.dozermapper.core.MappingException;
 import com.github.dozermapper.core.builder.BuilderUtil;
 import com.github.dozermapper.core.classmap.ClassMap;
 import com.github.dozermapper.core.classmap.DozerClass;
+import com.github.dozermapper.core.classmap.LazyLoadPolicy;
 import com.github.dozermapper.core.classmap.MappingDirection;
 import com.github.dozermapper.core.classmap.RelationshipType;
 import com.github.dozermapper.core.config.BeanContainer;
+import com.github.dozermapper.core.converters.DateFormatContainer;
 import com.github.dozermapper.core.factory.DestBeanCreator;
 import com.github.dozermapper.core.propertydescriptor.DozerPropertyDescriptor;
 import com.github.dozermapper.core.propertydescriptor.GetterSetterPropertyDescriptor;
@@ -62,13 +63,17 @@ public abstract class FieldMap implements Cloneable {
     private boolean copyByReferenceOveridden;
     private String mapId;
     private String customConverter;
+    private volatile Class<?> customConverterClass;
     private String customConverterId;
     private String customConverterParam;
     private RelationshipType relationshipType;
     private boolean removeOrphans;
+    private String relationshipKey;
+    private LazyLoadPolicy lazyLoadPolicy;
+    private volatile DateFormatContainer dateFormatContainer;
 
-    private final ConcurrentMap<Class<?>, DozerPropertyDescriptor> srcPropertyDescriptorMap = new ConcurrentHashMap<>(); // For Caching Purposes
-    private final ConcurrentMap<Class<?>, DozerPropertyDescriptor> destPropertyDescriptorMap = new ConcurrentHashMap<>();
+    private final PropertyDescriptorCache srcPropertyDescriptors = new PropertyDescriptorCache(); // For Caching Purposes
+    private final PropertyDescriptorCache destPropertyDescriptors = new PropertyDescriptorCache();
 
     public FieldMap(ClassMap classMap, BeanContainer beanContainer, DestBeanCreator destBeanCreator, PropertyDescriptorFactory propertyDescriptorFactory) {
         this.classMap = classMap;
@@ -90,13 +95,28 @@ public abstract class FieldMap implements Cloneable {
     }
 
     public void writeDestValue(Object runtimeDestObj, Object destFieldValue) {
+        writeDestValue(runtimeDestObj, destFieldValue, true);
+    }
+
+    /**
+     * Writes the destination field value
+     *
+     * @param runtimeDestObj  destination object
+     * @param destFieldValue  value to write
+     * @param readBeforeWrite false if the value is written without comparing it to the current value
+     */
+    public void writeDestValue(Object runtimeDestObj, Object destFieldValue, boolean readBeforeWrite) {
         if (log.isDebugEnabled()) {
             String className = MappingUtils.getClassNameWithoutPackage(runtimeDestObj.getClass());
             log.debug("Getting ready to invoke write method on the destination object. Dest Obj: {}, Dest value: {}",
                       className, destFieldValue);
         }
         DozerPropertyDescriptor propDescriptor = getDestPropertyDescriptor(BuilderUtil.unwrapDestClassFromBuilder(runtimeDestObj));
-        propDescriptor.setPropertyValue(runtimeDestObj, destFieldValue, this);
+        if (readBeforeWrite) {
+            propDescriptor.setPropertyValue(runtimeDestObj, destFieldValue, this);
+        } else {
+            propDescriptor.setPropertyValue(runtimeDestObj, destFieldValue, this, false);
+        }
     }
 
     public Class<?> getDestHintType(Class<?> runtimeSrcClass) {
@@ -214,6 +234,22 @@ public abstract class FieldMap implements Cloneable {
         }
     }
 
+    /**
+     * Returns the date format container for the effective date format of this field map. The container is reused
+     * for as long as the effective date format does not change.
+     *
+     * @return date format container, never null
+     */
+    public DateFormatContainer getDateFormatContainer() {
+        String dateFormat = getDateFormat();
+        DateFormatContainer result = dateFormatContainer;
+        if (result == null || !Objects.equals(result.getPattern(), dateFormat)) {
+            result = new DateFormatContainer(dateFormat);
+            dateFormatContainer = result;
+        }
+        return result;
+    }
+
     public String getDestFieldCreateMethod() {
         return destField.getCreateMethod();
     }
@@ -363,6 +399,21 @@ public abstract class FieldMap implements Cloneable {
 
     public void setCustomConverter(String customConverter) {
         this.customConverter = customConverter;
+        this.customConverterClass = null;
+    }
+
+    /**
+     * Returns the class of the field level custom converter, which is loaded once
+     *
+     * @return custom converter class
+     */
+    public Class<?> getCustomConverterClass() {
+        Class<?> result = customConverterClass;
+        if (result == null) {
+            result = MappingUtils.loadClass(customConverter, beanContainer);
+            customConverterClass = result;
+        }
+        return result;
     }
 
     public RelationshipType getRelationshipType() {
@@ -373,6 +424,19 @@ public abstract class FieldMap implements Cloneable {
         this.relationshipType = relationshipType;
     }
 
+    /**
+     * How a source value which is not loaded yet is mapped
+     *
+     * @return policy or null if the policy of the mapper applies
+     */
+    public LazyLoadPolicy getLazyLoadPolicy() {
+        return lazyLoadPolicy;
+    }
+
+    public void setLazyLoadPolicy(LazyLoadPolicy lazyLoadPolicy) {
+        this.lazyLoadPolicy = lazyLoadPolicy;
+    }
+
     public void validate() {
         if (srcField == null) {
             MappingUtils.throwMappingException("src field must be specified");
@@ -382,8 +446,8 @@ public abstract class FieldMap implements Cloneable {
         }
     }
 
-    protected DozerPropertyDescriptor getSrcPropertyDescriptor(Class<?> runtimeSrcClass) {
-        DozerPropertyDescriptor result = this.srcPropertyDescriptorMap.get(runtimeSrcClass);
+    public DozerPropertyDescriptor getSrcPropertyDescriptor(Class<?> runtimeSrcClass) {
+        DozerPropertyDescriptor result = this.srcPropertyDescriptors.get(runtimeSrcClass);
         if (result == null) {
             String srcFieldMapGetMethod = getSrcFieldMapGetMethod();
             String srcFieldMapSetMethod = getSrcFieldMapSetMethod();
@@ -395,20 +459,19 @@ public abstract class FieldMap implements Cloneable {
                                                                                                  getSrcDeepIndexHintContainer(),
                                                                                                  getDestDeepIndexHintContainer(), classMap.getSrcClassBeanFactory(), beanContainer,
                                                                                                  destBeanCreator);
-            this.srcPropertyDescriptorMap.putIfAbsent(runtimeSrcClass, descriptor);
-            result = descriptor;
+            result = this.srcPropertyDescriptors.put(runtimeSrcClass, descriptor);
         }
         return result;
     }
 
-    protected DozerPropertyDescriptor getDestPropertyDescriptor(Class<?> runtimeDestClass) {
+    public DozerPropertyDescriptor getDestPropertyDescriptor(Class<?> runtimeDestClass) {
         if (BeanBuilder.class.isAssignableFrom(runtimeDestClass)) {
             MappingUtils.throwMappingException("getDestPropertyDescriptor received builder instead of concrete class - "
                                                + "it's a bug, please post stack trace at https://github.com/DozerMapper/dozer or directly to dmitry@spikhalskiy.com ");
             return null;
         }
 
-        DozerPropertyDescriptor result = this.destPropertyDescriptorMap.get(runtimeDestClass);
+        DozerPropertyDescriptor result = this.destPropertyDescriptors.get(runtimeDestClass);
         if (result == null) {
             DozerPropertyDescriptor descriptor = propertyDescriptorFactory.getPropertyDescriptor(runtimeDestClass,
                                                                                                  getDestFieldTheGetMethod(), getDestFieldTheSetMethod(), getDestFieldMapGetMethod(),
@@ -419,8 +482,7 @@ public abstract class FieldMap implements Cloneable {
                                                                                                  classMap.getDestClassBeanFactory(),
                                                                                                  beanContainer, destBeanCreator);
 
-            this.destPropertyDescriptorMap.putIfAbsent(runtimeDestClass, descriptor);
-            result = descriptor;
+            result = this.destPropertyDescriptors.put(runtimeDestClass, descriptor);
         }
         return result;
     }
@@ -465,6 +527,19 @@ public abstract class FieldMap implements Cloneable {
         this.removeOrphans = removeOrphans;
     }
 
+    /**
+     * Property of the collection elements identifying them for non-cumulative relationships
+     *
+     * @return property name or null if elements are matched by equality
+     */
+    public String getRelationshipKey() {
+        return relationshipKey;
+    }
+
+    public void setRelationshipKey(String relationshipKey) {
+        this.relationshipKey = relationshipKey;
+    }
+
     public boolean isDestMapNull() {
         return classMap.isDestMapNull();
     }
@@ -490,7 +565,7 @@ public abstract class FieldMap implements Cloneable {
         return new ToStringBuilder(this, ToStringStyle.MULTI_LINE_STYLE).append("source field", srcField).append("destination field",
                                                                                                                  destField).append("type", type)
                 .append("customConverter", customConverter).append("relationshipType", relationshipType)
-                .append("removeOrphans", removeOrphans).append("mapId", mapId).append("copyByReference", copyByReference).append(
+                .append("removeOrphans", removeOrphans).append("relationshipKey", relationshipKey).append("mapId", mapId).append("copyByReference", copyByReference).append(
                         "copyByReferenceOveridden", copyByReferenceOveridden).append("srcTypeHint", srcHintContainer).append("destTypeHint",
                                                                                                                              destHintContainer).toString();
     }
@@ -50,6 +50,7 @@ public class MapFieldMap extends FieldMap {
         setMapId(fieldMap.getMapId());
         setRelationshipType(fieldMap.getRelationshipType());
         setRemoveOrphans(fieldMap.isRemoveOrphans());
+        setRelationshipKey(fieldMap.getRelationshipKey());
         setSrcField(fieldMap.getSrcField());
         setSrcHintContainer(fieldMap.getSrcHintContainer());
         setSrcDeepIndexHintContainer(fieldMap.getSrcDeepIndexHintContainer());
@@ -57,7 +58,7 @@ public class MapFieldMap extends FieldMap {
     }
 
     @Override
-    public void writeDestValue(Object destObj, Object destFieldValue) {
+    public void writeDestValue(Object destObj, Object destFieldValue, boolean readBeforeWrite) {
         DozerPropertyDescriptor propDescriptor;
         Object targetObject = destObj;
 
@@ -78,7 +79,11 @@ public class MapFieldMap extends FieldMap {
             }
         }
 
-        propDescriptor.setPropertyValue(targetObject, destFieldValue, this);
+        if (readBeforeWrite) {
+            propDescriptor.setPropertyValue(targetObject, destFieldValue, this);
+        } else {
+            propDescriptor.setPropertyValue(targetObject, destFieldValue, this, false);
+        }
     }
 
     @Override
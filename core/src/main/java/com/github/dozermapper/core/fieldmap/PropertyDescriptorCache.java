@@ -0,0 +1,95 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.fieldmap;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.github.dozermapper.core.propertydescriptor.DozerPropertyDescriptor;
+
+/**
+ * Internal cache of the property descriptors of a single field, keyed by the runtime class. The first class seen is
+ * held in a single entry checked by reference comparison, which covers almost all field maps; further classes fall back
+ * to a concurrent map allocated on demand. Only intended for internal use.
+ */
+final class PropertyDescriptorCache {
+
+    // entries are immutable, so a racy read sees either no entry or a complete one
+    private Entry entry;
+    private volatile ConcurrentMap<Class<?>, DozerPropertyDescriptor> fallback;
+
+    /**
+     * Returns the cached descriptor
+     *
+     * @param runtimeClass runtime class of the mapped object
+     * @return descriptor or null if none has been cached for the class
+     */
+    DozerPropertyDescriptor get(Class<?> runtimeClass) {
+        Entry current = entry;
+        if (current != null && current.runtimeClass == runtimeClass) {
+            return current.descriptor;
+        }
+
+        ConcurrentMap<Class<?>, DozerPropertyDescriptor> map = fallback;
+        return map != null ? map.get(runtimeClass) : null;
+    }
+
+    /**
+     * Caches the descriptor, unless another thread cached one for the class in the meantime
+     *
+     * @param runtimeClass runtime class of the mapped object
+     * @param descriptor   descriptor created for the class
+     * @return descriptor to use
+     */
+    DozerPropertyDescriptor put(Class<?> runtimeClass, DozerPropertyDescriptor descriptor) {
+        Entry current = entry;
+        if (current == null) {
+            entry = new Entry(runtimeClass, descriptor);
+            return descriptor;
+        }
+        if (current.runtimeClass == runtimeClass) {
+            return current.descriptor;
+        }
+
+        DozerPropertyDescriptor previous = getFallback().putIfAbsent(runtimeClass, descriptor);
+        return previous != null ? previous : descriptor;
+    }
+
+    private ConcurrentMap<Class<?>, DozerPropertyDescriptor> getFallback() {
+        ConcurrentMap<Class<?>, DozerPropertyDescriptor> map = fallback;
+        if (map == null) {
+            synchronized (this) {
+                map = fallback;
+                if (map == null) {
+                    map = new ConcurrentHashMap<>();
+                    fallback = map;
+                }
+            }
+        }
+        return map;
+    }
+
+    private static final class Entry {
+
+        private final Class<?> runtimeClass;
+        private final DozerPropertyDescriptor descriptor;
+
+        private Entry(Class<?> runtimeClass, DozerPropertyDescriptor descriptor) {
+            this.runtimeClass = runtimeClass;
+            this.descriptor = descriptor;
+        }
+    }
+}
@@ -75,9 +75,10 @@ public class CustomMappingsLoader {
             }
         }
 
-        // iterate through the classmaps and set all of the custom converters on them
+        // iterate through the classmaps and set all of the custom converters on them, the class maps are complete afterwards
         for (Entry<String, ClassMap> entry : customMappings.getAll().entrySet()) {
             ClassMap classMap = entry.getValue();
+            classMap.assignDestFieldOrdinals();
             if (classMap.getCustomConverters() != null) {
                 classMap.getCustomConverters().setConverters(new ArrayList<>(customConverterDescriptions));
             } else {
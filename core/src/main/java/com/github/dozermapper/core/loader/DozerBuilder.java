@@ -24,6 +24,7 @@ import com.github.dozermapper.core.classmap.ClassMap;
 import com.github.dozermapper.core.classmap.Configuration;
 import com.github.dozermapper.core.classmap.CopyByReference;
 import com.github.dozermapper.core.classmap.DozerClass;
+import com.github.dozermapper.core.classmap.LazyLoadPolicy;
 import com.github.dozermapper.core.classmap.MappingDirection;
 import com.github.dozermapper.core.classmap.MappingFileData;
 import com.github.dozermapper.core.classmap.RelationshipType;
@@ -149,6 +150,16 @@ public class DozerBuilder {
             return this;
         }
 
+        public MappingBuilder trackReferences(Boolean value) {
+            classMap.setTrackReferences(value);
+            return this;
+        }
+
+        public MappingBuilder readDestBeforeWrite(Boolean value) {
+            classMap.setReadDestBeforeWrite(value);
+            return this;
+        }
+
         public MappingBuilder mapId(String id) {
             classMap.setMapId(id);
             return this;
@@ -251,6 +262,7 @@ public class DozerBuilder {
         private MappingDirection type;
         private RelationshipType relationshipType;
         private boolean removeOrphans;
+        private String relationshipKey;
         private HintContainer srcHintContainer;
         private HintContainer destHintContainer;
         private HintContainer srcDeepIndexHintContainer;
@@ -261,6 +273,7 @@ public class DozerBuilder {
         private String customConverterId;
         private String customConverterParam;
         private boolean copyByReferenceSet;
+        private LazyLoadPolicy lazyLoadPolicy;
 
         private final BeanContainer beanContainer;
         private final DestBeanCreator destBeanCreator;
@@ -305,6 +318,10 @@ public class DozerBuilder {
             this.removeOrphans = value;
         }
 
+        public void relationshipKey(String propertyName) {
+            this.relationshipKey = propertyName;
+        }
+
         public void srcHintContainer(String hint) {
             HintContainer hintContainer = new HintContainer(beanContainer);
             hintContainer.setHintName(hint);
@@ -354,6 +371,10 @@ public class DozerBuilder {
             this.customConverterParam = attribute;
         }
 
+        public void lazyLoadPolicy(LazyLoadPolicy policy) {
+            this.lazyLoadPolicy = policy;
+        }
+
         public void build() {
             // TODO Check Map to Map mapping
             FieldMap result;
@@ -371,6 +392,7 @@ public class DozerBuilder {
             result.setType(type);
             result.setRelationshipType(relationshipType);
             result.setRemoveOrphans(removeOrphans);
+            result.setRelationshipKey(relationshipKey);
 
             result.setSrcHintContainer(srcHintContainer);
             result.setDestHintContainer(destHintContainer);
@@ -385,6 +407,7 @@ public class DozerBuilder {
             result.setCustomConverter(customConverter);
             result.setCustomConverterId(customConverterId);
             result.setCustomConverterParam(customConverterParam);
+            result.setLazyLoadPolicy(lazyLoadPolicy);
 
             classMap.addFieldMapping(result);
         }
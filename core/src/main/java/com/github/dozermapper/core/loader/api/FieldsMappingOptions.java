@@ -16,6 +16,7 @@
 package com.github.dozermapper.core.loader.api;
 
 import com.github.dozermapper.core.CustomConverter;
+import com.github.dozermapper.core.classmap.LazyLoadPolicy;
 import com.github.dozermapper.core.classmap.MappingDirection;
 import com.github.dozermapper.core.classmap.RelationshipType;
 import com.github.dozermapper.core.loader.DozerBuilder;
@@ -158,6 +159,14 @@ public final class FieldsMappingOptions {
         };
     }
 
+    public static FieldsMappingOption relationshipKey(final String propertyName) {
+        return new FieldsMappingOption() {
+            public void apply(DozerBuilder.FieldMappingBuilder fieldMappingBuilder) {
+                fieldMappingBuilder.relationshipKey(propertyName);
+            }
+        };
+    }
+
     public static FieldsMappingOption collectionStrategy(final boolean removeOrphans, final RelationshipType relationshipType) {
         return new FieldsMappingOption() {
             public void apply(DozerBuilder.FieldMappingBuilder fieldMappingBuilder) {
@@ -166,4 +175,12 @@ public final class FieldsMappingOptions {
             }
         };
     }
+
+    public static FieldsMappingOption lazyLoadPolicy(final LazyLoadPolicy policy) {
+        return new FieldsMappingOption() {
+            public void apply(DozerBuilder.FieldMappingBuilder fieldMappingBuilder) {
+                fieldMappingBuilder.lazyLoadPolicy(policy);
+            }
+        };
+    }
 }
@@ -96,6 +96,22 @@ public final class TypeMappingOptions {
         };
     }
 
+    public static TypeMappingOption trackReferences(final boolean value) {
+        return new TypeMappingOption() {
+            public void apply(DozerBuilder.MappingBuilder fieldMappingBuilder) {
+                fieldMappingBuilder.trackReferences(value);
+            }
+        };
+    }
+
+    public static TypeMappingOption readDestBeforeWrite(final boolean value) {
+        return new TypeMappingOption() {
+            public void apply(DozerBuilder.MappingBuilder fieldMappingBuilder) {
+                fieldMappingBuilder.readDestBeforeWrite(value);
+            }
+        };
+    }
+
     public static TypeMappingOption trimStrings() {
         return trimStrings(true);
     }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.plan;
+
+import com.github.dozermapper.core.classmap.ClassMap;
+import com.github.dozermapper.core.fieldmap.FieldMap;
+
+/**
+ * Internal class representing a compiled {@link ClassMap} for one runtime source and destination class. Field maps
+ * are addressed by their position within {@link ClassMap#getFieldMaps()}; positions without a {@link FieldMapPlan}
+ * must be mapped by the regular mapping engine. Only intended for internal use.
+ */
+public final class ClassMapPlan {
+
+    private final ClassMap classMap;
+    private final FieldMapPlan[] fieldPlans;
+    private final int compiledFieldCount;
+
+    ClassMapPlan(ClassMap classMap, FieldMapPlan[] fieldPlans) {
+        this.classMap = classMap;
+        this.fieldPlans = fieldPlans;
+
+        int count = 0;
+        for (FieldMapPlan fieldPlan : fieldPlans) {
+            if (fieldPlan != null) {
+                count++;
+            }
+        }
+        this.compiledFieldCount = count;
+    }
+
+    public ClassMap getClassMap() {
+        return classMap;
+    }
+
+    /**
+     * Returns the compiled plan for the field map at the given position
+     *
+     * @param index    position of the field map within the class map
+     * @param fieldMap field map expected at that position
+     * @return compiled plan or null if the field map has to be interpreted
+     */
+    public FieldMapPlan getFieldPlan(int index, FieldMap fieldMap) {
+        if (index >= fieldPlans.length) {
+            return null;
+        }
+
+        FieldMapPlan fieldPlan = fieldPlans[index];
+        return fieldPlan != null && fieldPlan.getFieldMap() == fieldMap ? fieldPlan : null;
+    }
+
+    public int getCompiledFieldCount() {
+        return compiledFieldCount;
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.plan;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.github.dozermapper.core.classmap.ClassMap;
+import com.github.dozermapper.core.converters.CustomConverterContainer;
+import com.github.dozermapper.core.fieldmap.FieldMap;
+import com.github.dozermapper.core.fieldmap.GenericFieldMap;
+import com.github.dozermapper.core.propertydescriptor.DozerPropertyDescriptor;
+import com.github.dozermapper.core.propertydescriptor.JavaBeanPropertyDescriptor;
+import com.github.dozermapper.core.util.DozerConstants;
+import com.github.dozermapper.core.util.MappingUtils;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Internal class that compiles a {@link ClassMap} into a {@link ClassMapPlan} the first time it is used for a runtime
+ * source and destination class. Only plain getter/setter field maps between identical primitive, wrapper or String
+ * properties are compiled; they are invoked through {@link LambdaMetafactory} generated accessors, or bound
+ * {@link MethodHandle}s when the bean class is not visible to Dozer. Everything else (EL, custom get/set methods,
+ * indexes, deep fields, 'this' mappings, custom converters) is left to the reflective mapping engine.
+ * Only intended for internal use.
+ */
+public final class ClassMapPlanCompiler {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType READER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType WRITER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Logger log = LoggerFactory.getLogger(ClassMapPlanCompiler.class);
+
+    private final ConcurrentMap<PlanKey, ClassMapPlan> plans = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the plan for the class map and runtime classes, compiling it on first use
+     *
+     * @param classMap  class map being mapped
+     * @param srcClass  runtime source class
+     * @param destClass runtime destination class
+     * @return plan or null if none of the field maps could be compiled
+     */
+    public ClassMapPlan getPlan(ClassMap classMap, Class<?> srcClass, Class<?> destClass) {
+        PlanKey key = new PlanKey(classMap, srcClass, destClass);
+        ClassMapPlan plan = plans.get(key);
+        if (plan == null) {
+            plan = compile(classMap, srcClass, destClass);
+            ClassMapPlan previous = plans.putIfAbsent(key, plan);
+            if (previous != null) {
+                plan = previous;
+            }
+        }
+
+        return plan.getCompiledFieldCount() > 0 ? plan : null;
+    }
+
+    ClassMapPlan compile(ClassMap classMap, Class<?> srcClass, Class<?> destClass) {
+        List<FieldMap> fieldMaps = classMap.getFieldMaps();
+        FieldMapPlan[] fieldPlans = new FieldMapPlan[fieldMaps.size()];
+        for (int i = 0; i < fieldPlans.length; i++) {
+            fieldPlans[i] = compileFieldMap(fieldMaps.get(i), srcClass, destClass);
+        }
+
+        ClassMapPlan plan = new ClassMapPlan(classMap, fieldPlans);
+        log.debug("Compiled {} of {} field mappings for {} -> {}", plan.getCompiledFieldCount(), fieldPlans.length, srcClass, destClass);
+
+        return plan;
+    }
+
+    FieldMapPlan compileFieldMap(FieldMap fieldMap, Class<?> srcClass, Class<?> destClass) {
+        if (!isCompilable(fieldMap)) {
+            return null;
+        }
+
+        try {
+            DozerPropertyDescriptor srcDescriptor = fieldMap.getSrcPropertyDescriptor(srcClass);
+            DozerPropertyDescriptor destDescriptor = fieldMap.getDestPropertyDescriptor(destClass);
+            if (srcDescriptor.getClass() != JavaBeanPropertyDescriptor.class || destDescriptor.getClass() != JavaBeanPropertyDescriptor.class) {
+                return null;
+            }
+
+            Method readMethod = ((JavaBeanPropertyDescriptor)srcDescriptor).getReadMethod();
+            Method writeMethod = ((JavaBeanPropertyDescriptor)destDescriptor).getWriteMethod();
+
+            Class<?> type = readMethod.getReturnType();
+            if (!isDirectlyCopyable(type)
+                || !type.equals(writeMethod.getParameterTypes()[0])
+                || !type.equals(srcDescriptor.getPropertyType())
+                || !type.equals(destDescriptor.getPropertyType())
+                || hasCustomConverter(fieldMap.getClassMap(), type)) {
+                return null;
+            }
+
+            return new FieldMapPlan(fieldMap, createReader(readMethod), createDestReader((JavaBeanPropertyDescriptor)destDescriptor),
+                                    createWriter(writeMethod), type.isPrimitive());
+        } catch (Throwable e) {
+            log.debug("Field mapping {} can not be compiled, it will be mapped reflectively", fieldMap, e);
+            return null;
+        }
+    }
+
+    private static boolean isCompilable(FieldMap fieldMap) {
+        return fieldMap.getClass() == GenericFieldMap.class
+               && !MappingUtils.isDeepMapping(fieldMap.getSrcFieldName())
+               && !MappingUtils.isDeepMapping(fieldMap.getDestFieldName())
+               && !DozerConstants.SELF_KEYWORD.equals(fieldMap.getSrcFieldName())
+               && !DozerConstants.SELF_KEYWORD.equals(fieldMap.getDestFieldName())
+               && !fieldMap.isSrcFieldIndexed()
+               && !fieldMap.isDestFieldIndexed()
+               && !DozerConstants.ITERATE.equals(fieldMap.getDestFieldType())
+               && MappingUtils.isBlankOrNull(fieldMap.getCustomConverter())
+               && MappingUtils.isBlankOrNull(fieldMap.getCustomConverterId())
+               && fieldMap.getSrcHintContainer() == null
+               && fieldMap.getDestHintContainer() == null
+               && fieldMap.getSrcDeepIndexHintContainer() == null
+               && fieldMap.getDestDeepIndexHintContainer() == null;
+    }
+
+    private static boolean isDirectlyCopyable(Class<?> type) {
+        return type != void.class && (ClassUtils.isPrimitiveOrWrapper(type) || String.class.equals(type));
+    }
+
+    private static boolean hasCustomConverter(ClassMap classMap, Class<?> type) {
+        CustomConverterContainer converters = classMap.getCustomConverters();
+        if (converters == null) {
+            return false;
+        }
+
+        Class<?> wrapperType = ClassUtils.primitiveToWrapper(type);
+        return converters.findConverter(wrapperType, wrapperType) != null;
+    }
+
+    private static PropertyReader createDestReader(JavaBeanPropertyDescriptor destDescriptor) {
+        // mirrors the reflective engine, which skips writing a value that is already set
+        try {
+            Method destReadMethod = destDescriptor.getReadMethod();
+            return destReadMethod != null ? createReader(destReadMethod) : null;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    static PropertyReader createReader(Method readMethod) throws Throwable {
+        MethodHandle handle = unreflect(readMethod);
+        if (canSpinAccessor(readMethod)) {
+            CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "read", MethodType.methodType(PropertyReader.class),
+                                                              READER_TYPE, handle,
+                                                              MethodType.methodType(ClassUtils.primitiveToWrapper(readMethod.getReturnType()),
+                                                                                    readMethod.getDeclaringClass()));
+            return (PropertyReader)callSite.getTarget().invoke();
+        }
+
+        MethodHandle reader = handle.asType(READER_TYPE);
+        return bean -> reader.invokeExact(bean);
+    }
+
+    static PropertyWriter createWriter(Method writeMethod) throws Throwable {
+        MethodHandle handle = unreflect(writeMethod);
+        if (canSpinAccessor(writeMethod)) {
+            CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "write", MethodType.methodType(PropertyWriter.class),
+                                                              WRITER_TYPE, handle,
+                                                              MethodType.methodType(void.class, writeMethod.getDeclaringClass(),
+                                                                                    ClassUtils.primitiveToWrapper(writeMethod.getParameterTypes()[0])));
+            return (PropertyWriter)callSite.getTarget().invoke();
+        }
+
+        MethodHandle writer = handle.asType(WRITER_TYPE);
+        return (bean, value) -> {
+            writer.invokeExact(bean, value);
+        };
+    }
+
+    private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+        if (!method.isAccessible()) {
+            method.setAccessible(true);
+        }
+
+        return LOOKUP.unreflect(method);
+    }
+
+    /**
+     * Generated accessors link against the bean class directly, so the method and all enclosing classes have to be
+     * public and the class has to be resolvable from the class loader which loaded Dozer.
+     */
+    private static boolean canSpinAccessor(Method method) {
+        if (!Modifier.isPublic(method.getModifiers())) {
+            return false;
+        }
+
+        Class<?> declaringClass = method.getDeclaringClass();
+        for (Class<?> current = declaringClass; current != null; current = current.getEnclosingClass()) {
+            if (!Modifier.isPublic(current.getModifiers())) {
+                return false;
+            }
+        }
+
+        try {
+            return Class.forName(declaringClass.getName(), false, ClassMapPlanCompiler.class.getClassLoader()) == declaringClass;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static final class PlanKey {
+
+        private final ClassMap classMap;
+        private final Class<?> srcClass;
+        private final Class<?> destClass;
+        private final int hash;
+
+        private PlanKey(ClassMap classMap, Class<?> srcClass, Class<?> destClass) {
+            this.classMap = classMap;
+            this.srcClass = srcClass;
+            this.destClass = destClass;
+            this.hash = 31 * (31 * System.identityHashCode(classMap) + srcClass.hashCode()) + destClass.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PlanKey)) {
+                return false;
+            }
+
+            PlanKey that = (PlanKey)o;
+            return classMap == that.classMap && srcClass == that.srcClass && destClass == that.destClass;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
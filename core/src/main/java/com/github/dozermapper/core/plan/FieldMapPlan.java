@@ -0,0 +1,101 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.plan;
+
+import java.lang.reflect.InvocationTargetException;
+
+import com.github.dozermapper.core.fieldmap.FieldMap;
+import com.github.dozermapper.core.util.MappingUtils;
+
+/**
+ * Internal class holding compiled accessors for a single {@link FieldMap} whose source and destination
+ * property share the same primitive, wrapper or String type, so no conversion is needed. Only intended for internal use.
+ */
+public final class FieldMapPlan {
+
+    private final FieldMap fieldMap;
+    private final PropertyReader srcReader;
+    private final PropertyReader destReader;
+    private final PropertyWriter destWriter;
+    private final boolean primitiveDest;
+
+    FieldMapPlan(FieldMap fieldMap, PropertyReader srcReader, PropertyReader destReader, PropertyWriter destWriter, boolean primitiveDest) {
+        this.fieldMap = fieldMap;
+        this.srcReader = srcReader;
+        this.destReader = destReader;
+        this.destWriter = destWriter;
+        this.primitiveDest = primitiveDest;
+    }
+
+    public FieldMap getFieldMap() {
+        return fieldMap;
+    }
+
+    /**
+     * Reads the source field value. Exceptions thrown by the getter are wrapped the same way as reflective invocation does.
+     *
+     * @param srcObj source object
+     * @return source field value
+     */
+    public Object readSrcValue(Object srcObj) {
+        try {
+            return srcReader.read(srcObj);
+        } catch (Throwable e) {
+            MappingUtils.throwMappingException(new InvocationTargetException(e));
+            return null;
+        }
+    }
+
+    /**
+     * Writes the destination field value, skipping null values for primitive properties and values
+     * which are already set on the destination object.
+     *
+     * @param destObj   destination object
+     * @param destValue value to write
+     */
+    public void writeDestValue(Object destObj, Object destValue) {
+        writeDestValue(destObj, destValue, true);
+    }
+
+    /**
+     * Writes the destination field value, skipping null values for primitive properties.
+     *
+     * @param destObj         destination object
+     * @param destValue       value to write
+     * @param readBeforeWrite false if the value is written without comparing it to the current value
+     */
+    public void writeDestValue(Object destObj, Object destValue, boolean readBeforeWrite) {
+        if (primitiveDest && destValue == null) {
+            return;
+        }
+
+        if (readBeforeWrite && destReader != null) {
+            try {
+                if (destReader.read(destObj) == destValue) {
+                    return;
+                }
+            } catch (Throwable e) {
+                // if we failed to read the value, assume we must write, and continue...
+            }
+        }
+
+        try {
+            destWriter.write(destObj, destValue);
+        } catch (Throwable e) {
+            MappingUtils.throwMappingException(new InvocationTargetException(e));
+        }
+    }
+}
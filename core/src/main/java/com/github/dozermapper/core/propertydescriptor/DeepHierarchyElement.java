@@ -16,14 +16,25 @@
 package com.github.dozermapper.core.propertydescriptor;
 
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
 
+/**
+ * Internal class representing one field of a deep field hierarchy. The accessors of the property are captured on
+ * creation, as {@link PropertyDescriptor} synchronizes and re-resolves them on every lookup. Only intended for internal use.
+ */
 public class DeepHierarchyElement {
-    private PropertyDescriptor propDescriptor;
-    private int index;
+    private final PropertyDescriptor propDescriptor;
+    private final int index;
+    private final Method readMethod;
+    private final Method writeMethod;
+    private final Class<?> propertyType;
 
     public DeepHierarchyElement(PropertyDescriptor propDescriptor, int index) {
         this.propDescriptor = propDescriptor;
         this.index = index;
+        this.readMethod = propDescriptor.getReadMethod();
+        this.writeMethod = propDescriptor.getWriteMethod();
+        this.propertyType = propDescriptor.getPropertyType();
     }
 
     public int getIndex() {
@@ -33,4 +44,16 @@ public class DeepHierarchyElement {
     public PropertyDescriptor getPropDescriptor() {
         return propDescriptor;
     }
+
+    public Method getReadMethod() {
+        return readMethod;
+    }
+
+    public Method getWriteMethod() {
+        return writeMethod;
+    }
+
+    public Class<?> getPropertyType() {
+        return propertyType;
+    }
 }
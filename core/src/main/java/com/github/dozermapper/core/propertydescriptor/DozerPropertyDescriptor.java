@@ -29,6 +29,18 @@ public interface DozerPropertyDescriptor {
 
     void setPropertyValue(Object bean, Object value, FieldMap fieldMap);
 
+    /**
+     * Writes the value, optionally without reading the current value first to skip writing the same reference again
+     *
+     * @param bean            destination object
+     * @param value           value to write
+     * @param fieldMap        field map being mapped
+     * @param readBeforeWrite false if the value is written without comparing it to the current value
+     */
+    default void setPropertyValue(Object bean, Object value, FieldMap fieldMap, boolean readBeforeWrite) {
+        setPropertyValue(bean, value, fieldMap);
+    }
+
     /**
      * Determines generic parameter type
      *
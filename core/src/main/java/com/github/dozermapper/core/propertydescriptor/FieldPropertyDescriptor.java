@@ -74,6 +74,10 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor implemen
     }
 
     public void setPropertyValue(Object bean, Object value, FieldMap fieldMap) {
+        setPropertyValue(bean, value, fieldMap, true);
+    }
+
+    public void setPropertyValue(Object bean, Object value, FieldMap fieldMap, boolean readBeforeWrite) {
         Object intermediateResult = bean;
         for (int i = 0; i < descriptorChain.length; i++) {
             DozerPropertyDescriptor descriptor = descriptorChain[i];
@@ -85,7 +89,7 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor implemen
                 }
                 intermediateResult = currentValue;
             } else { // last one
-                descriptor.setPropertyValue(intermediateResult, value, fieldMap);
+                descriptor.setPropertyValue(intermediateResult, value, fieldMap, readBeforeWrite);
             }
         }
     }
@@ -123,12 +127,16 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor implemen
         }
 
         public void setPropertyValue(Object bean, Object value, FieldMap fieldMap) {
+            setPropertyValue(bean, value, fieldMap, true);
+        }
+
+        public void setPropertyValue(Object bean, Object value, FieldMap fieldMap, boolean readBeforeWrite) {
             if (value == null && getPropertyType().isPrimitive()) {
                 return; // do nothing
             }
 
             // Check if dest value is already set and is equal to src value. If true, no need to rewrite the dest value
-            if (getPropertyValue(bean) == value) {
+            if (readBeforeWrite && getPropertyValue(bean) == value) {
                 return;
             }
 
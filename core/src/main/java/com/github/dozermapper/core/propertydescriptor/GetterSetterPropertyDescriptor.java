@@ -94,6 +94,10 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
     }
 
     public void setPropertyValue(Object bean, Object value, FieldMap fieldMap) {
+        setPropertyValue(bean, value, fieldMap, true);
+    }
+
+    public void setPropertyValue(Object bean, Object value, FieldMap fieldMap, boolean readBeforeWrite) {
         if (MappingUtils.isDeepMapping(fieldName)) {
             writeDeepDestinationValue(bean, value, fieldMap);
         } else {
@@ -104,7 +108,7 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
                 } else {
                     // Check if dest value is already set and is equal to src value. If true, no need to rewrite the dest value
                     try {
-                        if (getPropertyValue(bean) == value && !isIndexed) {
+                        if (readBeforeWrite && getPropertyValue(bean) == value) {
                             return;
                         }
                     } catch (Exception e) {
@@ -124,13 +128,12 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
         int size = hierarchy.length;
         for (int i = 0; i < size; i++) {
             DeepHierarchyElement hierarchyElement = hierarchy[i];
-            PropertyDescriptor pd = hierarchyElement.getPropDescriptor();
             // If any fields in the deep hierarchy are indexed, get actual value within the collection at the specified index
             if (hierarchyElement.getIndex() > -1) {
-                hierarchyValue = MappingUtils.getIndexedValue(ReflectionUtils.invoke(pd.getReadMethod(), hierarchyValue, null),
+                hierarchyValue = MappingUtils.getIndexedValue(ReflectionUtils.invoke(hierarchyElement.getReadMethod(), hierarchyValue, null),
                                                               hierarchyElement.getIndex());
             } else {
-                hierarchyValue = ReflectionUtils.invoke(pd.getReadMethod(), parentObj, null);
+                hierarchyValue = ReflectionUtils.invoke(hierarchyElement.getReadMethod(), parentObj, null);
             }
             parentObj = hierarchyValue;
             if (hierarchyValue == null) {
@@ -156,11 +159,11 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
         for (int i = 0; i < hierarchyLength; i++) {
             DeepHierarchyElement hierarchyElement = hierarchy[i];
             PropertyDescriptor pd = hierarchyElement.getPropDescriptor();
-            Object value = ReflectionUtils.invoke(pd.getReadMethod(), parentObj, null);
+            Object value = ReflectionUtils.invoke(hierarchyElement.getReadMethod(), parentObj, null);
             Class<?> clazz;
             Class<?> collectionEntryType;
             if (value == null) {
-                clazz = pd.getPropertyType();
+                clazz = hierarchyElement.getPropertyType();
                 if (clazz.isInterface() && (i + 1) == hierarchyLength && fieldMap.getDestHintContainer() != null) {
                     // before setting the property on the destination object we should check for a destination hint. need to know
                     // that we are at the end of the line determine the property type
@@ -197,15 +200,15 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
                     }
                 }
 
-                ReflectionUtils.invoke(pd.getWriteMethod(), parentObj, new Object[] {o});
-                value = ReflectionUtils.invoke(pd.getReadMethod(), parentObj, null);
+                ReflectionUtils.invoke(hierarchyElement.getWriteMethod(), parentObj, new Object[] {o});
+                value = ReflectionUtils.invoke(hierarchyElement.getReadMethod(), parentObj, null);
             }
 
             //Check to see if collection needs to be resized
             if (MappingUtils.isSupportedCollection(value.getClass())) {
                 int currentSize = CollectionUtils.getLengthOfCollection(value);
                 if (currentSize < hierarchyElement.getIndex() + 1) {
-                    collectionEntryType = pd.getPropertyType().getComponentType();
+                    collectionEntryType = hierarchyElement.getPropertyType().getComponentType();
 
                     if (collectionEntryType == null) {
                         collectionEntryType = ReflectionUtils.determineGenericsType(parentObj.getClass(), pd);
@@ -228,9 +231,9 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
                         }
                     }
 
-                    value = MappingUtils.prepareIndexedCollection(pd.getPropertyType(), value, destBeanCreator.create(collectionEntryType), hierarchyElement.getIndex());
+                    value = MappingUtils.prepareIndexedCollection(hierarchyElement.getPropertyType(), value, destBeanCreator.create(collectionEntryType), hierarchyElement.getIndex());
                     //value = MappingUtils.prepareIndexedCollection(pd.getPropertyType(), value, DestBeanCreator.create(collectionEntryType), hierarchyElement.getIndex());
-                    ReflectionUtils.invoke(pd.getWriteMethod(), parentObj, new Object[] {value});
+                    ReflectionUtils.invoke(hierarchyElement.getWriteMethod(), parentObj, new Object[] {value});
                 }
             }
 
@@ -243,21 +246,21 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
             }
         }
         // second, set the very last field in the deep hierarchy
-        PropertyDescriptor pd = hierarchy[hierarchy.length - 1].getPropDescriptor();
+        DeepHierarchyElement lastElement = hierarchy[hierarchy.length - 1];
 
         Class<?> type;
         // For one-way mappings there could be no read method
-        if (pd.getReadMethod() != null) {
-            type = pd.getReadMethod().getReturnType();
+        if (lastElement.getReadMethod() != null) {
+            type = lastElement.getReadMethod().getReturnType();
         } else {
-            type = pd.getWriteMethod().getParameterTypes()[0];
+            type = lastElement.getWriteMethod().getParameterTypes()[0];
         }
 
         if (!type.isPrimitive() || destFieldValue != null) {
             if (!isIndexed) {
                 Method method = null;
                 if (!isCustomSetMethod()) {
-                    method = pd.getWriteMethod();
+                    method = lastElement.getWriteMethod();
                 } else {
                     try {
                         method = ReflectionUtils.findAMethod(parentObj.getClass(), getSetMethodName(), beanContainer);
@@ -292,7 +295,8 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
     }
 
     private DeepHierarchyElement[] getDeepFieldHierarchy(Object obj, HintContainer deepIndexHintContainer) {
-        return ReflectionUtils.getDeepFieldHierarchy(obj.getClass(), fieldName, deepIndexHintContainer);
+        return ReflectionUtils.getDeepFieldHierarchy(obj.getClass(), fieldName, deepIndexHintContainer,
+                                              beanContainer.getDeepFieldHierarchyCache());
     }
 
     private void writeIndexedValue(Object destObj, Object destFieldValue) {
@@ -79,6 +79,11 @@ public class MapPropertyDescriptor extends GetterSetterPropertyDescriptor {
 
     @Override
     public void setPropertyValue(Object bean, Object value, FieldMap fieldMap) {
+        setPropertyValue(bean, value, fieldMap, true);
+    }
+
+    @Override
+    public void setPropertyValue(Object bean, Object value, FieldMap fieldMap, boolean readBeforeWrite) {
         if (MappingUtils.isDeepMapping(fieldName)) {
             writeDeepDestinationValue(bean, value, fieldMap);
         } else {
@@ -86,7 +91,7 @@ public class MapPropertyDescriptor extends GetterSetterPropertyDescriptor {
                 // Check if dest value is already set and is equal to src value. If true, no need to rewrite the dest value
                 try {
                     // We should map null values to create a new key in the map
-                    if (value != null && getPropertyValue(bean) == value) {
+                    if (readBeforeWrite && value != null && getPropertyValue(bean) == value) {
                         return;
                     }
                 } catch (Exception e) {
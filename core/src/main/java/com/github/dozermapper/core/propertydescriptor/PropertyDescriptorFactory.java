@@ -23,6 +23,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import com.github.dozermapper.core.config.BeanContainer;
 import com.github.dozermapper.core.factory.DestBeanCreator;
 import com.github.dozermapper.core.fieldmap.HintContainer;
+import com.github.dozermapper.core.util.DeepHierarchyCache;
 import com.github.dozermapper.core.util.DozerConstants;
 import com.github.dozermapper.core.util.MappingUtils;
 
@@ -36,6 +37,7 @@ public final class PropertyDescriptorFactory {
 
     private final List<PropertyDescriptorCreationStrategy> pluggedDescriptorCreationStrategies =
             new ArrayList<>();
+    private final DeepHierarchyCache<DozerPropertyDescriptor[]> deepHierarchyCache = new DeepHierarchyCache<>();
 
     public PropertyDescriptorFactory() {
 
@@ -108,5 +110,15 @@ public final class PropertyDescriptorFactory {
 
     public void addPluggedPropertyDescriptorCreationStrategies(Collection<PropertyDescriptorCreationStrategy> strategies) {
         pluggedDescriptorCreationStrategies.addAll(strategies);
+        deepHierarchyCache.clear();
+    }
+
+    /**
+     * Deep field hierarchies resolved with descriptors created by this factory
+     *
+     * @return hierarchy cache
+     */
+    public DeepHierarchyCache<DozerPropertyDescriptor[]> getDeepHierarchyCache() {
+        return deepHierarchyCache;
     }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.util;
+
+/**
+ * Internal decorator remembering per class whether it is a proxy and what its real class is, so the decorated
+ * resolver is asked once per class. Objects of classes which are not proxies are returned without asking the
+ * decorated resolver to unenhance them. Only intended for internal use.
+ */
+public final class CachingProxyResolver implements DozerProxyResolver {
+
+    private final DozerProxyResolver delegate;
+    private final ClassValue<ProxyInfo> proxyInfos = new ClassValue<ProxyInfo>() {
+        @Override
+        protected ProxyInfo computeValue(Class<?> type) {
+            boolean proxy = delegate.isProxy(type);
+            return new ProxyInfo(proxy, delegate.getRealClass(type));
+        }
+    };
+
+    private CachingProxyResolver(DozerProxyResolver delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Decorates the resolver, unless it is already decorated
+     *
+     * @param proxyResolver resolver to decorate
+     * @return caching resolver
+     */
+    public static CachingProxyResolver of(DozerProxyResolver proxyResolver) {
+        if (proxyResolver instanceof CachingProxyResolver) {
+            return (CachingProxyResolver)proxyResolver;
+        }
+        return new CachingProxyResolver(proxyResolver);
+    }
+
+    public DozerProxyResolver getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public boolean isProxy(Class<?> clazz) {
+        return proxyInfos.get(clazz).proxy;
+    }
+
+    @Override
+    public <T> T unenhanceObject(T object) {
+        if (object == null || !isProxy(object.getClass())) {
+            return object;
+        }
+        return delegate.unenhanceObject(object);
+    }
+
+    @Override
+    public Class<?> getRealClass(Class<?> clazz) {
+        return proxyInfos.get(clazz).realClass;
+    }
+
+    @Override
+    public boolean isInitialized(Object object) {
+        return delegate.isInitialized(object);
+    }
+
+    @Override
+    public Object getIdentifier(Object object) {
+        return delegate.getIdentifier(object);
+    }
+
+    @Override
+    public String getIdentifierProperty(Object object) {
+        return delegate.getIdentifierProperty(object);
+    }
+
+    private static final class ProxyInfo {
+
+        private final boolean proxy;
+        private final Class<?> realClass;
+
+        private ProxyInfo(boolean proxy, Class<?> realClass) {
+            this.proxy = proxy;
+            this.realClass = realClass;
+        }
+    }
+}
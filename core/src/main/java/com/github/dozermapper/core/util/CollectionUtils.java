@@ -16,10 +16,12 @@
 package com.github.dozermapper.core.util;
 
 import java.lang.reflect.Array;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -62,10 +64,34 @@ public final class CollectionUtils {
     }
 
     public static Object getValueFromCollection(Object collection, int index) {
-        if (isArray(collection.getClass())) {
+        if (collection instanceof Object[]) {
+            return ((Object[])collection)[index];
+        } else if (isArray(collection.getClass())) {
             return Array.get(collection, index);
+        } else if (collection instanceof List) {
+            return ((List<?>)collection).get(index);
         } else {
-            return ((Collection<?>)collection).toArray()[index];
+            Iterator<?> iterator = ((Collection<?>)collection).iterator();
+            for (int i = 0; i < index; i++) {
+                iterator.next();
+            }
+            return iterator.next();
+        }
+    }
+
+    /**
+     * Returns a view to iterate over the elements of a collection or array once, without copying it.
+     *
+     * @param collection collection or array
+     * @return iterable over the elements
+     */
+    public static Iterable<?> asIterable(Object collection) {
+        if (collection instanceof Object[]) {
+            return Arrays.asList((Object[])collection);
+        } else if (isArray(collection.getClass())) {
+            return () -> new PrimitiveArrayIterator(collection);
+        } else {
+            return (Collection<?>)collection;
         }
     }
 
@@ -88,6 +114,9 @@ public final class CollectionUtils {
     }
 
     public static <T> Object convertListToArray(List<T> list, Class<T> destEntryType) {
+        if (destEntryType.isPrimitive()) {
+            return PrimitiveArrayUtils.toArray(list, destEntryType);
+        }
 
         Object outArray = Array.newInstance(destEntryType, list.size());
         int count = 0;
@@ -98,22 +127,11 @@ public final class CollectionUtils {
             count++;
         }
 
-        if (destEntryType.isPrimitive()) {
-            return outArray;
-        } else {
-            return outArray;
-        }
+        return outArray;
     }
 
     public static List<Object> convertPrimitiveArrayToList(Object primitiveArray) {
-        int length = Array.getLength(primitiveArray);
-        List<Object> result = new ArrayList<>(length);
-
-        // wrap and copy elements
-        for (int i = 0; i < length; i++) {
-            result.add(Array.get(primitiveArray, i));
-        }
-        return result;
+        return PrimitiveArrayUtils.toList(primitiveArray);
     }
 
     public static <E> Set<E> intersection(final Set<E> set1, final Set<?> set2) {
@@ -121,4 +139,29 @@ public final class CollectionUtils {
         intersection.retainAll(set2);
         return intersection;
     }
+
+    private static final class PrimitiveArrayIterator implements Iterator<Object> {
+
+        private final Object array;
+        private final int length;
+        private int index;
+
+        private PrimitiveArrayIterator(Object array) {
+            this.array = array;
+            this.length = Array.getLength(array);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < length;
+        }
+
+        @Override
+        public Object next() {
+            if (index >= length) {
+                throw new NoSuchElementException();
+            }
+            return Array.get(array, index++);
+        }
+    }
 }
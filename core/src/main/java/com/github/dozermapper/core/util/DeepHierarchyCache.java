@@ -0,0 +1,98 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import com.github.dozermapper.core.fieldmap.HintContainer;
+
+/**
+ * Internal cache of resolved deep field hierarchies (i.e. "address.geo[0].lat"), keyed by the runtime class, the deep
+ * field path and the deep index {@link HintContainer} of the field mapping. Hierarchies are resolved once and shared
+ * between threads, so cached values must not be modified by callers. Only intended for internal use.
+ *
+ * @param <T> type of the resolved hierarchy
+ */
+public final class DeepHierarchyCache<T> {
+
+    private final ConcurrentMap<Key, T> hierarchies = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the hierarchy for the given class and deep field, resolving it on first use. Failed resolutions are not cached.
+     *
+     * @param clazz                  runtime class owning the first field of the path
+     * @param field                  deep field path
+     * @param deepIndexHintContainer deep index hints of the field mapping, compared by identity
+     * @param resolver               resolves the hierarchy if it is not cached yet
+     * @return resolved hierarchy
+     */
+    public T get(Class<?> clazz, String field, HintContainer deepIndexHintContainer, Supplier<T> resolver) {
+        Key key = new Key(clazz, field, deepIndexHintContainer);
+        T hierarchy = hierarchies.get(key);
+        if (hierarchy == null) {
+            hierarchy = resolver.get();
+            T previous = hierarchies.putIfAbsent(key, hierarchy);
+            if (previous != null) {
+                hierarchy = previous;
+            }
+        }
+
+        return hierarchy;
+    }
+
+    public int size() {
+        return hierarchies.size();
+    }
+
+    public void clear() {
+        hierarchies.clear();
+    }
+
+    private static final class Key {
+
+        private final Class<?> clazz;
+        private final String field;
+        private final HintContainer hintContainer;
+        private final int hash;
+
+        private Key(Class<?> clazz, String field, HintContainer hintContainer) {
+            this.clazz = clazz;
+            this.field = field;
+            this.hintContainer = hintContainer;
+            this.hash = 31 * (31 * clazz.hashCode() + field.hashCode()) + System.identityHashCode(hintContainer);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key that = (Key)o;
+            return clazz == that.clazz && hintContainer == that.hintContainer && field.equals(that.field);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -17,6 +17,7 @@ package com.github.dozermapper.core.util;
 
 import java.util.Collection;
 import java.util.StringTokenizer;
+import java.util.function.Supplier;
 
 import com.github.dozermapper.core.config.BeanContainer;
 import com.github.dozermapper.core.factory.DestBeanCreator;
@@ -75,6 +76,14 @@ public final class DeepHierarchyUtils {
             MappingUtils.throwMappingException("Field does not contain deep field delimiter");
         }
 
+        Supplier<DozerPropertyDescriptor[]> resolver = () -> resolveDeepFieldHierarchy(parentClass, field, deepIndexHintContainer, beanContainer,
+                                                                                       destBeanCreator, propertyDescriptorFactory);
+        return propertyDescriptorFactory.getDeepHierarchyCache().get(parentClass, field, deepIndexHintContainer, resolver);
+    }
+
+    private static DozerPropertyDescriptor[] resolveDeepFieldHierarchy(Class<?> parentClass, String field, HintContainer deepIndexHintContainer,
+                                                                       BeanContainer beanContainer, DestBeanCreator destBeanCreator,
+                                                                       PropertyDescriptorFactory propertyDescriptorFactory) {
         StringTokenizer toks = new StringTokenizer(field, DozerConstants.DEEP_FIELD_DELIMITER);
         Class<?> latestClass = parentClass;
         DozerPropertyDescriptor[] hierarchy = new DozerPropertyDescriptor[toks.countTokens()];
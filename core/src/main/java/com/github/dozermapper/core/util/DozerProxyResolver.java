@@ -27,4 +27,34 @@ public interface DozerProxyResolver {
 
     Class<?> getRealClass(Class<?> clazz);
 
+    /**
+     * Checks whether the object has been loaded, without loading it
+     *
+     * @param object object to check, never null
+     * @return false if the object is a proxy or collection which has not been loaded yet
+     */
+    default boolean isInitialized(Object object) {
+        return true;
+    }
+
+    /**
+     * Returns the identifier of a proxy, without loading it
+     *
+     * @param object object to check, never null
+     * @return identifier or null if the object is not a proxy of an identifiable object
+     */
+    default Object getIdentifier(Object object) {
+        return null;
+    }
+
+    /**
+     * Returns the name of the property holding the identifier of a proxy, without loading it
+     *
+     * @param object object to check, never null
+     * @return name of the identifier property, "id" unless the resolver knows better
+     */
+    default String getIdentifierProperty(Object object) {
+        return "id";
+    }
+
 }
@@ -15,12 +15,17 @@
  */
 package com.github.dozermapper.core.util;
 
+import com.github.dozermapper.core.classmap.LazyLoadPolicy;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 
 /**
  * Hibernate specific implementation. Checks for HibernateProxy interface and uses Hibernate internal API
- * to unwrap proxies.
+ * to unwrap proxies. Uninitialized proxies and persistent collections are reported as such, so they can be
+ * mapped according to the {@link LazyLoadPolicy} without loading them.
  */
 public class HibernateProxyResolver extends DefaultProxyResolver {
 
@@ -40,4 +45,42 @@ public class HibernateProxyResolver extends DefaultProxyResolver {
         return object;
     }
 
+    @Override
+    public boolean isInitialized(Object object) {
+        if (object instanceof HibernateProxy) {
+            return !((HibernateProxy)object).getHibernateLazyInitializer().isUninitialized();
+        }
+        if (object instanceof PersistentCollection) {
+            return ((PersistentCollection)object).wasInitialized();
+        }
+        return true;
+    }
+
+    @Override
+    public Object getIdentifier(Object object) {
+        if (object instanceof HibernateProxy) {
+            return ((HibernateProxy)object).getHibernateLazyInitializer().getIdentifier();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the identifier property of the entity as known to the session factory of the proxy. Detached proxies and
+     * embedded identifiers fall back to "id".
+     */
+    @Override
+    public String getIdentifierProperty(Object object) {
+        if (object instanceof HibernateProxy) {
+            LazyInitializer lazyInitializer = ((HibernateProxy)object).getHibernateLazyInitializer();
+            SharedSessionContractImplementor session = lazyInitializer.getSession();
+            if (session != null) {
+                String property = session.getFactory().getMetamodel().entityPersister(lazyInitializer.getEntityName()).getIdentifierPropertyName();
+                if (property != null) {
+                    return property;
+                }
+            }
+        }
+        return super.getIdentifierProperty(object);
+    }
+
 }
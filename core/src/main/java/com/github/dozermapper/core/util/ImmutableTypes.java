@@ -0,0 +1,117 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.util;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import com.github.dozermapper.core.Immutable;
+
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * Internal class detecting types whose instances can not change once created, so they can be copied by reference.
+ * Besides a list of JDK types, enums and classes marked {@link Immutable} are immutable, as are final classes (e.g.
+ * records) whose instance fields are all final and of immutable types themselves. The result is cached per class.
+ * Only intended for internal use.
+ */
+public final class ImmutableTypes {
+
+    private static final Set<Class<?>> JDK_TYPES = new HashSet<>(Arrays.asList(
+            String.class, BigDecimal.class, BigInteger.class, UUID.class, Class.class, Locale.class, Currency.class, URI.class,
+            File.class, Pattern.class, Instant.class, Duration.class, Period.class, LocalDate.class, LocalTime.class, LocalDateTime.class, OffsetTime.class,
+            OffsetDateTime.class, ZonedDateTime.class, Year.class, YearMonth.class, MonthDay.class, ZoneId.class, ZoneOffset.class));
+
+    private static final ClassValue<Boolean> IMMUTABLE_TYPES = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return isImmutable(type, new HashSet<>());
+        }
+    };
+
+    private ImmutableTypes() {
+    }
+
+    /**
+     * Checks whether instances of the type can not change once created
+     *
+     * @param type type to check
+     * @return true if values of the type can be shared instead of being copied
+     */
+    public static boolean isImmutable(Class<?> type) {
+        return IMMUTABLE_TYPES.get(type);
+    }
+
+    private static boolean isImmutable(Class<?> type, Set<Class<?>> visited) {
+        if (ClassUtils.isPrimitiveOrWrapper(type) || JDK_TYPES.contains(type) || type.isEnum()
+            || (type.getSuperclass() != null && type.getSuperclass().isEnum()) || type.isAnnotationPresent(Immutable.class)) {
+            return true;
+        }
+
+        if (type.isArray() || type.isInterface() || !Modifier.isFinal(type.getModifiers())) {
+            return false;
+        }
+
+        // a type referencing itself is immutable if the rest of its fields are
+        if (!visited.add(type)) {
+            return true;
+        }
+
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            if (current.getName().startsWith("java.") && current.getDeclaredFields().length > 0) {
+                // state of JDK classes can not be inspected reliably
+                return false;
+            }
+
+            for (Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                if (!Modifier.isFinal(modifiers) || !isImmutable(field.getType(), visited)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+}
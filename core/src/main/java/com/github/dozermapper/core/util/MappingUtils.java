@@ -99,8 +99,18 @@ public final class MappingUtils {
         return rootCause;
     }
 
+    /**
+     * Builds a key identifying the destination field of a field map on a destination object
+     *
+     * @param destObj      destination object
+     * @param destFieldMap field map writing the destination field
+     * @return key of the destination field
+     * @deprecated Fields mapped by super class mappings are tracked by {@link ClassMap#getFieldMapOrdinals()}.
+     * It will be removed in future releases.
+     */
+    @Deprecated
     public static String getMappedParentFieldKey(Object destObj, FieldMap destFieldMap) {
-        StringBuilder buf = new StringBuilder(100); // TODO Use IdentityHashMap instead of String concatenation
+        StringBuilder buf = new StringBuilder(100);
         buf.append(System.identityHashCode(destObj));
         buf.append(destFieldMap.getDestFieldName());
         if (destFieldMap.getDestFieldKey() != null) {
@@ -152,6 +162,8 @@ public final class MappingUtils {
         reversed.setMapId(source.getMapId());
         reversed.setRelationshipType(source.getRelationshipType());
         reversed.setRemoveOrphans(source.isRemoveOrphans());
+        reversed.setRelationshipKey(source.getRelationshipKey());
+        reversed.setLazyLoadPolicy(source.getLazyLoadPolicy());
         reversed.setSrcHintContainer(source.getDestHintContainer());
         reversed.setDestHintContainer(source.getSrcHintContainer());
         reversed.setSrcDeepIndexHintContainer(source.getDestDeepIndexHintContainer());
@@ -177,6 +189,8 @@ public final class MappingUtils {
         destination.setDateFormat(source.getDateFormat());
         destination.setRelationshipType(source.getRelationshipType());
         destination.setStopOnErrors(source.isStopOnErrors());
+        destination.setTrackReferences(source.isTrackReferences());
+        destination.setReadDestBeforeWrite(source.isReadDestBeforeWrite());
         destination.setAllowedExceptions(source.getAllowedExceptions());
         destination.setSrcClassCreateMethod(source.getDestClassCreateMethod());
         destination.setDestClassCreateMethod(source.getSrcClassCreateMethod());
@@ -192,6 +206,11 @@ public final class MappingUtils {
             if (index < x.length) {
                 return x[index];
             }
+        } else if (collection instanceof List) {
+            List<?> x = (List<?>)collection;
+            if (index < x.size()) {
+                return x.get(index);
+            }
         } else if (collection instanceof Collection) {
             Collection<?> x = (Collection<?>)collection;
             if (index < x.size()) {
@@ -223,17 +242,17 @@ public final class MappingUtils {
     }
 
     public static Class<?> getRealClass(Class<?> clazz, BeanContainer beanContainer) {
-        DozerProxyResolver proxyResolver = beanContainer.getProxyResolver();
+        DozerProxyResolver proxyResolver = beanContainer.getCachingProxyResolver();
         return proxyResolver.getRealClass(clazz);
     }
 
     public static <T> T deProxy(T object, BeanContainer beanContainer) {
-        DozerProxyResolver proxyResolver = beanContainer.getProxyResolver();
+        DozerProxyResolver proxyResolver = beanContainer.getCachingProxyResolver();
         return proxyResolver.unenhanceObject(object);
     }
 
     public static boolean isProxy(Class<?> clazz, BeanContainer beanContainer) {
-        DozerProxyResolver proxyResolver = beanContainer.getProxyResolver();
+        DozerProxyResolver proxyResolver = beanContainer.getCachingProxyResolver();
         return proxyResolver.isProxy(clazz);
     }
 
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.util;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * Internal class that copies primitive arrays without reflective per-element access. Covers identity and widening
+ * conversions between primitive arrays, boxing into wrapper arrays and conversions between primitive arrays and
+ * lists of wrappers. Only intended for internal use.
+ */
+public final class PrimitiveArrayUtils {
+
+    private static final List<Class<?>> WIDENING_ORDER = Arrays.asList(byte.class, short.class, int.class, long.class, float.class,
+                                                                         double.class);
+
+    private PrimitiveArrayUtils() {
+    }
+
+    /**
+     * Checks whether elements of the source type can be copied into an array of the destination type as is, by
+     * widening or by boxing into their exact wrapper type. char is only copied into char arrays, as the converters
+     * treat it as text rather than as a number.
+     *
+     * @param srcType  primitive component type of the source array
+     * @param destType component type of the destination array
+     * @return true if {@link #copy(Object, Class, Object)} supports the types
+     */
+    public static boolean isCopyable(Class<?> srcType, Class<?> destType) {
+        if (!srcType.isPrimitive()) {
+            return false;
+        }
+        if (srcType == destType || ClassUtils.primitiveToWrapper(srcType) == destType) {
+            return true;
+        }
+
+        int srcOrder = WIDENING_ORDER.indexOf(srcType);
+        int destOrder = WIDENING_ORDER.indexOf(destType);
+        return srcOrder >= 0 && destOrder > srcOrder;
+    }
+
+    /**
+     * Creates an array of the destination type holding the elements of the existing array followed by the elements
+     * of the source array
+     *
+     * @param srcArray      primitive source array
+     * @param destType      component type of the result, see {@link #isCopyable(Class, Class)}
+     * @param existingArray array of the destination type whose elements are kept, may be null
+     * @return new array
+     */
+    public static Object copy(Object srcArray, Class<?> destType, Object existingArray) {
+        int offset = existingArray == null ? 0 : Array.getLength(existingArray);
+        int length = Array.getLength(srcArray);
+        Object result = Array.newInstance(destType, offset + length);
+        if (existingArray != null) {
+            System.arraycopy(existingArray, 0, result, 0, offset);
+        }
+
+        Class<?> srcType = srcArray.getClass().getComponentType();
+        if (srcType == destType) {
+            System.arraycopy(srcArray, 0, result, offset, length);
+        } else if (!destType.isPrimitive()) {
+            box(srcArray, (Object[])result, offset);
+        } else if (destType == double.class) {
+            widen(srcArray, (double[])result, offset);
+        } else if (destType == float.class) {
+            widen(srcArray, (float[])result, offset);
+        } else if (destType == long.class) {
+            widen(srcArray, (long[])result, offset);
+        } else if (destType == int.class) {
+            widen(srcArray, (int[])result, offset);
+        } else {
+            byte[] src = (byte[])srcArray;
+            short[] dest = (short[])result;
+            for (int i = 0; i < length; i++) {
+                dest[offset + i] = src[i];
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Boxes the elements of a primitive array into a list
+     *
+     * @param primitiveArray array to box
+     * @return list of wrappers
+     */
+    public static List<Object> toList(Object primitiveArray) {
+        int length = Array.getLength(primitiveArray);
+        Object[] boxed = new Object[length];
+        box(primitiveArray, boxed, 0);
+        return new ArrayList<>(Arrays.asList(boxed));
+    }
+
+    /**
+     * Unboxes a list into a primitive array. Elements which are not of the exact wrapper type are set reflectively,
+     * so they are widened or rejected the same way as by {@link Array#set(Object, int, Object)}.
+     *
+     * @param list          list of wrappers
+     * @param primitiveType primitive component type of the result
+     * @return new array
+     */
+    public static Object toArray(List<?> list, Class<?> primitiveType) {
+        int size = list.size();
+        Object result = Array.newInstance(primitiveType, size);
+        Class<?> wrapperType = ClassUtils.primitiveToWrapper(primitiveType);
+        for (int i = 0; i < size; i++) {
+            Object element = list.get(i);
+            if (element == null || element.getClass() != wrapperType) {
+                Array.set(result, i, element);
+            } else if (primitiveType == int.class) {
+                ((int[])result)[i] = (Integer)element;
+            } else if (primitiveType == long.class) {
+                ((long[])result)[i] = (Long)element;
+            } else if (primitiveType == double.class) {
+                ((double[])result)[i] = (Double)element;
+            } else if (primitiveType == float.class) {
+                ((float[])result)[i] = (Float)element;
+            } else if (primitiveType == short.class) {
+                ((short[])result)[i] = (Short)element;
+            } else if (primitiveType == byte.class) {
+                ((byte[])result)[i] = (Byte)element;
+            } else if (primitiveType == char.class) {
+                ((char[])result)[i] = (Character)element;
+            } else {
+                ((boolean[])result)[i] = (Boolean)element;
+            }
+        }
+        return result;
+    }
+
+    private static void box(Object srcArray, Object[] dest, int offset) {
+        if (srcArray instanceof int[]) {
+            int[] src = (int[])srcArray;
+            for (int i = 0; i < src.length; i++) {
+                dest[offset + i] = src[i];
+            }
+        } else if (srcArray instanceof long[]) {
+            long[] src = (long[])srcArray;
+            for (int i = 0; i < src.length; i++) {
+                dest[offset + i] = src[i];
+            }
+        } else if (srcArray instanceof double[]) {
+            double[] src = (double[])srcArray;
+            for (int i = 0; i < src.length; i++) {
+                dest[offset + i] = src[i];
+            }
+        } else if (srcArray instanceof float[]) {
+            float[] src = (float[])srcArray;
+            for (int i = 0; i < src.length; i++) {
+                dest[offset + i] = src[i];
+            }
+        } else if (srcArray instanceof short[]) {
+            short[] src = (short[])srcArray;
+            for (int i = 0; i < src.length; i++) {
+                dest[offset + i] = src[i];
+            }
+        } else if (srcArray instanceof byte[]) {
+            byte[] src = (byte[])srcArray;
+            for (int i = 0; i < src.length; i++) {
+                dest[offset + i] = src[i];
+            }
+        } else if (srcArray instanceof char[]) {
+            char[] src = (char[])srcArray;
+            for (int i = 0; i < src.length; i++) {
+                dest[offset + i] = src[i];
+            }
+        } else {
+            boolean[] src = (boolean[])srcArray;
+            for (int i = 0; i < src.length; i++) {
+                dest[offset + i] = src[i];
+            }
+        }
+    }
+
+    private static void widen(Object srcArray, double[] dest, int offset) {
+        if (srcArray instanceof float[]) {
+            float[] src = (float[])srcArray;
+            for (int i = 0; i < src.length; i++) {
+                dest[offset + i] = src[i];
+            }
+        } else if (srcArray instanceof long[]) {
+            long[] src = (long[])srcArray;
+            for (int i = 0; i < src.length; i++) {
+                dest[offset + i] = src[i];
+            }
+        } else {
+            int[] src = toIntArray(srcArray);
+            for (int i = 0; i < src.length; i++) {
+                dest[offset + i] = src[i];
+            }
+        }
+    }
+
+    private static void widen(Object srcArray, float[] dest, int offset) {
+        if (srcArray instanceof long[]) {
+            long[] src = (long[])srcArray;
+            for (int i = 0; i < src.length; i++) {
+                dest[offset + i] = src[i];
+            }
+        } else {
+            int[] src = toIntArray(srcArray);
+            for (int i = 0; i < src.length; i++) {
+                dest[offset + i] = src[i];
+            }
+        }
+    }
+
+    private static void widen(Object srcArray, long[] dest, int offset) {
+        int[] src = toIntArray(srcArray);
+        for (int i = 0; i < src.length; i++) {
+            dest[offset + i] = src[i];
+        }
+    }
+
+    private static void widen(Object srcArray, int[] dest, int offset) {
+        int[] src = toIntArray(srcArray);
+        System.arraycopy(src, 0, dest, offset, src.length);
+    }
+
+    /**
+     * Widens byte and short arrays to int, which all wider conversions of them go through without loss
+     */
+    private static int[] toIntArray(Object srcArray) {
+        if (srcArray instanceof int[]) {
+            return (int[])srcArray;
+        }
+
+        int[] result;
+        if (srcArray instanceof short[]) {
+            short[] src = (short[])srcArray;
+            result = new int[src.length];
+            for (int i = 0; i < src.length; i++) {
+                result[i] = src[i];
+            }
+        } else {
+            byte[] src = (byte[])srcArray;
+            result = new int[src.length];
+            for (int i = 0; i < src.length; i++) {
+                result[i] = src[i];
+            }
+        }
+        return result;
+    }
+}
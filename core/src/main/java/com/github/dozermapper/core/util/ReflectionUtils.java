@@ -135,12 +135,44 @@ public final class ReflectionUtils {
         return syntheticMethod;
     }
 
+    /**
+     * Resolves the property descriptors along a deep field path.
+     *
+     * @param parentClass            class owning the first field of the path
+     * @param field                  deep field path, i.e. "address.geo[0].lat"
+     * @param deepIndexHintContainer deep index hints, may be null
+     * @return descriptors for each field of the path
+     */
     public static DeepHierarchyElement[] getDeepFieldHierarchy(Class<?> parentClass, String field,
                                                                HintContainer deepIndexHintContainer) {
         if (!MappingUtils.isDeepMapping(field)) {
             MappingUtils.throwMappingException("Field does not contain deep field delimitor");
         }
 
+        return resolveDeepFieldHierarchy(parentClass, field, deepIndexHintContainer);
+    }
+
+    /**
+     * Resolves the property descriptors along a deep field path, reusing hierarchies already resolved into the given cache.
+     * Cached hierarchies are shared, so the returned array must not be modified.
+     *
+     * @param parentClass            class owning the first field of the path
+     * @param field                  deep field path, i.e. "address.geo[0].lat"
+     * @param deepIndexHintContainer deep index hints, may be null
+     * @param cache                  cache of resolved hierarchies, usually owned by the mapper
+     * @return descriptors for each field of the path
+     */
+    public static DeepHierarchyElement[] getDeepFieldHierarchy(Class<?> parentClass, String field, HintContainer deepIndexHintContainer,
+                                                               DeepHierarchyCache<DeepHierarchyElement[]> cache) {
+        if (!MappingUtils.isDeepMapping(field)) {
+            MappingUtils.throwMappingException("Field does not contain deep field delimitor");
+        }
+
+        return cache.get(parentClass, field, deepIndexHintContainer, () -> resolveDeepFieldHierarchy(parentClass, field, deepIndexHintContainer));
+    }
+
+    private static DeepHierarchyElement[] resolveDeepFieldHierarchy(Class<?> parentClass, String field,
+                                                                    HintContainer deepIndexHintContainer) {
         StringTokenizer toks = new StringTokenizer(field, DozerConstants.DEEP_FIELD_DELIMITER);
         Class<?> latestClass = parentClass;
         DeepHierarchyElement[] hierarchy = new DeepHierarchyElement[toks.countTokens()];
@@ -157,7 +189,6 @@ public final class ReflectionUtils {
             }
 
             PropertyDescriptor propDescriptor = findPropertyDescriptor(latestClass, theFieldName, deepIndexHintContainer);
-            DeepHierarchyElement r = new DeepHierarchyElement(propDescriptor, collectionIndex);
 
             if (propDescriptor == null) {
                 MappingUtils.throwMappingException("Exception occurred determining deep field hierarchy for Class --> "
@@ -165,6 +196,8 @@ public final class ReflectionUtils {
                                                    + latestClass.getName() + ", Field Name: " + aFieldName);
             }
 
+            DeepHierarchyElement r = new DeepHierarchyElement(propDescriptor, collectionIndex);
+
             latestClass = propDescriptor.getPropertyType();
             if (toks.hasMoreTokens()) {
                 if (latestClass.isArray()) {
@@ -15,8 +15,13 @@
  */
 package com.github.dozermapper.core;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -77,6 +82,94 @@ public class MappedFieldsTrackerTest extends AbstractDozerTest {
         assertNull(tracker.getMappedValue("", String.class, "brandNewMapId"));
     }
 
+    @Test
+    public void canTrackManyObjects() {
+        List<Object> sources = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Object src = new Object();
+            sources.add(src);
+            tracker.put(src, "dest" + i, i % 2 == 0 ? null : "id");
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("dest" + i, tracker.getMappedValue(sources.get(i), String.class, i % 2 == 0 ? null : "id"));
+        }
+        assertNull(tracker.getMappedValue(sources.get(0), String.class, "id"));
+    }
+
+    @Test
+    public void canTrackSeveralDestinationsOfSameSource() {
+        Object src = new Object();
+        tracker.put(src, "1");
+        tracker.put(src, 2);
+
+        assertEquals("1", tracker.getMappedValue(src, String.class));
+        assertEquals(2, tracker.getMappedValue(src, Integer.class));
+    }
+
+    @Test
+    public void canFallBackToParentAndMerge() {
+        Object src = new Object();
+        Object parentSrc = new Object();
+        tracker.put(parentSrc, "parent");
+
+        MappedFieldsTracker child = new MappedFieldsTracker(tracker);
+        child.put(src, "child");
+
+        assertEquals("parent", child.getMappedValue(parentSrc, String.class));
+        assertNull(tracker.getMappedValue(src, String.class));
+
+        tracker.putAll(child);
+        assertEquals("child", tracker.getMappedValue(src, String.class));
+    }
+
+    @Test
+    public void canClaimDestinationOnce() {
+        Object src = new Object();
+        Object parentSrc = new Object();
+        tracker.put(parentSrc, "parent");
+
+        MappedFieldsTracker shared = new ConcurrentMappedFieldsTracker(tracker);
+        StringBuilder first = new StringBuilder();
+        StringBuilder second = new StringBuilder();
+
+        assertSame(first, shared.claim(src, first, null));
+        assertSame(first, shared.claim(src, second, null));
+        assertSame(first, shared.getMappedValue(src, StringBuilder.class));
+        assertEquals("parent", shared.getMappedValue(parentSrc, String.class));
+
+        tracker.putAll(shared);
+        assertSame(first, tracker.getMappedValue(src, StringBuilder.class));
+    }
+
+    @Test
+    public void canClaimConcurrently() throws Exception {
+        MappedFieldsTracker shared = new ConcurrentMappedFieldsTracker(tracker);
+        Object src = new Object();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Object>> claims = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                claims.add(executor.submit(() -> shared.claim(src, new StringBuilder(), null)));
+            }
+
+            Object claimed = claims.get(0).get();
+            for (Future<Object> claim : claims) {
+                assertSame(claimed, claim.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void canClear() {
+        tracker.put("", "1");
+        tracker.clear();
+
+        assertNull(tracker.getMappedValue("", String.class));
+    }
+
     public static class Boom {
         @Override
         public int hashCode() {
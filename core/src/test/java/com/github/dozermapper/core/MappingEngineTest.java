@@ -0,0 +1,85 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core;
+
+import java.util.Collections;
+
+import com.github.dozermapper.core.builder.DestBeanBuilderCreator;
+import com.github.dozermapper.core.cache.CacheManager;
+import com.github.dozermapper.core.cache.DefaultCacheManager;
+import com.github.dozermapper.core.cache.DozerCacheType;
+import com.github.dozermapper.core.classmap.ClassMappings;
+import com.github.dozermapper.core.classmap.Configuration;
+import com.github.dozermapper.core.classmap.generator.BeanMappingGenerator;
+import com.github.dozermapper.core.config.BeanContainer;
+import com.github.dozermapper.core.events.DefaultEventManager;
+import com.github.dozermapper.core.factory.DestBeanCreator;
+import com.github.dozermapper.core.propertydescriptor.PropertyDescriptorFactory;
+import com.github.dozermapper.core.vo.A;
+import com.github.dozermapper.core.vo.B;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class MappingEngineTest extends AbstractDozerTest {
+
+    private MappingEngine engine;
+
+    @Before
+    public void setUp() {
+        BeanContainer beanContainer = new BeanContainer();
+        DestBeanCreator destBeanCreator = new DestBeanCreator(beanContainer);
+        PropertyDescriptorFactory propertyDescriptorFactory = new PropertyDescriptorFactory();
+
+        CacheManager cacheManager = new DefaultCacheManager();
+        cacheManager.putCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name(), 100);
+        cacheManager.putCache(DozerCacheType.SUPER_TYPE_CHECK.name(), 100);
+
+        engine = new MappingEngine(new ClassMappings(beanContainer), new Configuration(), cacheManager,
+                                   Collections.emptyList(), new DefaultEventManager(Collections.emptyList()), null,
+                                   Collections.emptyMap(), beanContainer, destBeanCreator, new DestBeanBuilderCreator(),
+                                   new BeanMappingGenerator(beanContainer, destBeanCreator, propertyDescriptorFactory),
+                                   propertyDescriptorFactory);
+    }
+
+    @Test
+    public void canShareEngineState() {
+        assertSame(engine.getClassMapBuilder(), engine.getClassMapBuilder());
+        assertSame(engine.getPrimitiveConverter(), engine.getPrimitiveConverter());
+        assertNotNull(engine.getConverterByDestTypeCache());
+        assertNotNull(engine.getSuperTypeCache());
+    }
+
+    @Test
+    public void canCreateProcessorPerRequest() {
+        assertNotSame(engine.newMappingProcessor(), engine.newMappingProcessor());
+    }
+
+    @Test
+    public void shouldNotShareMappedFieldsBetweenRequests() {
+        A src = new A();
+        src.setB(new B());
+
+        A dest1 = engine.newMappingProcessor().map(src, A.class);
+        A dest2 = engine.newMappingProcessor().map(src, A.class);
+
+        assertNotSame(dest1.getB(), dest2.getB());
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.github.dozermapper.core.AbstractDozerTest;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ConcurrentCacheTest extends AbstractDozerTest {
+
+    @Test
+    public void testPutGetFromCache() {
+        Cache cache = new ConcurrentCache(getRandomString(), 50);
+        int numCacheEntriesToAdd = 45;
+        for (int i = 0; i < numCacheEntriesToAdd; i++) {
+            Object key = String.valueOf(i);
+
+            assertNull("cache entry should not already exist", cache.get(key));
+
+            cache.put(key, "testvalue" + i);
+
+            String value = (String)cache.get(key);
+            assertEquals("cache entries should be equal", value, "testvalue" + i);
+        }
+        assertEquals("invalid cache size", numCacheEntriesToAdd, cache.getSize());
+    }
+
+    @Test
+    public void testMaximumCacheSize() {
+        int maxSize = 25;
+        Cache cache = new ConcurrentCache(getRandomString(), maxSize);
+        for (int i = 0; i < maxSize + 125; i++) {
+            cache.put("testkey" + i, "testvalue" + i);
+        }
+        assertEquals("cache size should not exceed max size", maxSize, cache.getSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMaximumCacheSize_Zero() {
+        new ConcurrentCache(getRandomString(), 0);
+    }
+
+    @Test
+    public void testRecentlyUsedEntrySurvivesEviction() {
+        Cache<String, String> cache = new ConcurrentCache<>(getRandomString(), 3);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.put("c", "3");
+
+        cache.get("a");
+        cache.put("d", "4");
+
+        assertEquals("1", cache.get("a"));
+        assertNull("least recently used entry should have been evicted", cache.get("b"));
+        assertEquals(3, cache.getSize());
+    }
+
+    @Test
+    public void testReplaceValue() {
+        Cache<String, String> cache = new ConcurrentCache<>(getRandomString(), 2);
+        cache.put("a", "1");
+        cache.put("a", "2");
+
+        assertEquals("2", cache.get("a"));
+        assertEquals(1, cache.getSize());
+    }
+
+    @Test
+    public void testClear() {
+        Cache<Object, String> cache = new ConcurrentCache<>(getRandomString(), 50);
+        Object key = CacheKeyFactory.createKey(String.class, Integer.class);
+        cache.put(key, "testvalue");
+
+        assertTrue(cache.containsKey(key));
+        cache.clear();
+        assertEquals("cache should have been cleared", 0, cache.getSize());
+    }
+
+    @Test
+    public void testConcurrentPutAndGet() throws Exception {
+        int maxSize = 100;
+        Cache<Integer, Integer> cache = new ConcurrentCache<>(getRandomString(), maxSize);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final int offset = t;
+                results.add(executor.submit((Callable<Void>)() -> {
+                    for (int i = 0; i < 5000; i++) {
+                        Integer key = (i * 8 + offset) % 500;
+                        Integer value = cache.get(key);
+                        if (value != null) {
+                            assertEquals(key, value);
+                        }
+                        cache.put(key, key);
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<Void> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue("cache size should not exceed max size", cache.getSize() <= maxSize);
+        cache.put(-1, -1);
+        assertNotNull(cache.get(-1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetNull() {
+        Cache cache = new ConcurrentCache(getRandomString(), 5);
+        cache.get(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPutNull() {
+        Cache cache = new ConcurrentCache(getRandomString(), 5);
+        cache.put(null, null);
+    }
+}
@@ -21,6 +21,7 @@ import java.util.List;
 import com.github.dozermapper.core.AbstractDozerTest;
 import com.github.dozermapper.core.config.BeanContainer;
 import com.github.dozermapper.core.factory.DestBeanCreator;
+import com.github.dozermapper.core.fieldmap.DozerField;
 import com.github.dozermapper.core.fieldmap.FieldMap;
 import com.github.dozermapper.core.fieldmap.GenericFieldMap;
 import com.github.dozermapper.core.propertydescriptor.PropertyDescriptorFactory;
@@ -28,6 +29,7 @@ import com.github.dozermapper.core.propertydescriptor.PropertyDescriptorFactory;
 import org.junit.Before;
 import org.junit.Test;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -86,4 +88,50 @@ public class ClassMapTest extends AbstractDozerTest {
         assertEquals("field1", classMap.provideAlternateName("Field1"));
     }
 
+    @Test
+    public void shouldAssignDenseDestFieldOrdinals() {
+        classMap.addFieldMapping(fieldMap(classMap, "a", null));
+        classMap.addFieldMapping(fieldMap(classMap, "b", null));
+        classMap.addFieldMapping(fieldMap(classMap, "a", null));
+        classMap.addFieldMapping(fieldMap(classMap, "a", "key"));
+        classMap.assignDestFieldOrdinals();
+
+        assertArrayEquals(new int[] {0, 1, 0, 2}, classMap.getFieldMapOrdinals());
+    }
+
+    @Test
+    public void shouldReassignDestFieldOrdinalsWhenFieldMapsChange() {
+        classMap.addFieldMapping(fieldMap(classMap, "a", null));
+        assertArrayEquals(new int[] {0}, classMap.getFieldMapOrdinals());
+
+        classMap.addFieldMapping(fieldMap(classMap, "b", null));
+
+        assertArrayEquals(new int[] {0, 1}, classMap.getFieldMapOrdinals());
+    }
+
+    @Test
+    public void shouldShareDestFieldOrdinalsWithSuperClassMaps() {
+        classMap.addFieldMapping(fieldMap(classMap, "a", null));
+        classMap.addFieldMapping(fieldMap(classMap, "b", null));
+
+        ClassMap superClassMap = new ClassMap(null);
+        superClassMap.addFieldMapping(fieldMap(superClassMap, "c", null));
+        superClassMap.addFieldMapping(fieldMap(superClassMap, "b", null));
+        ClassMap superSuperClassMap = new ClassMap(null);
+        superSuperClassMap.addFieldMapping(fieldMap(superSuperClassMap, "c", null));
+        superSuperClassMap.addFieldMapping(fieldMap(superSuperClassMap, "d", null));
+
+        assertArrayEquals(new int[] {2, 1}, classMap.getFieldMapOrdinals(superClassMap));
+        assertArrayEquals(new int[] {2, 3}, classMap.getFieldMapOrdinals(superSuperClassMap));
+        assertArrayEquals(new int[] {0, 1}, superClassMap.getFieldMapOrdinals());
+    }
+
+    private FieldMap fieldMap(ClassMap owner, String destFieldName, String destFieldKey) {
+        GenericFieldMap fieldMap = new GenericFieldMap(owner, beanContainer, destBeanCreator, propertyDescriptorFactory);
+        DozerField destField = new DozerField(destFieldName, null);
+        destField.setKey(destFieldKey);
+        fieldMap.setDestField(destField);
+        return fieldMap;
+    }
+
 }
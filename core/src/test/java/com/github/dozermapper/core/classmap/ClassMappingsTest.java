@@ -15,6 +15,8 @@
  */
 package com.github.dozermapper.core.classmap;
 
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Map;
 
 import com.github.dozermapper.core.AbstractDozerTest;
@@ -27,6 +29,10 @@ import org.junit.Test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -72,6 +78,72 @@ public class ClassMappingsTest extends AbstractDozerTest {
         assertEquals(2, result.size());
     }
 
+    @Test
+    public void testFind_EmptyMapId() {
+        ClassMap classMap = mock(ClassMap.class);
+        classMappings.add(String.class, Integer.class, classMap);
+
+        assertSame(classMap, classMappings.find(String.class, Integer.class, ""));
+        assertTrue(classMappings.contains(String.class, Integer.class, null));
+    }
+
+    @Test
+    public void shouldKeepStringKeysForGetAll() {
+        ClassMap classMap = mock(ClassMap.class);
+        classMappings.add(String.class, Integer.class, "id", classMap);
+
+        Map<String, ClassMap> result = classMappings.getAll();
+        String key = new ClassMapKeyFactory(new BeanContainer()).createKey(String.class, Integer.class, "id");
+        assertSame(classMap, result.get(key));
+    }
+
+    @Test
+    public void testFind_InterfaceMapping() {
+        ClassMap classMap = mockClassMap(Comparable.class, Integer.class, null);
+        classMappings.add(Comparable.class, Integer.class, classMap);
+
+        assertSame(classMap, classMappings.find(String.class, Integer.class, null));
+        assertSame("interface mapping should have been memoized", classMap, classMappings.find(String.class, Integer.class));
+    }
+
+    @Test
+    public void testFind_AbstractDestination() {
+        ClassMap classMap = mockClassMap(String.class, ArrayList.class, null);
+        classMappings.add(String.class, ArrayList.class, classMap);
+
+        assertSame(classMap, classMappings.find(String.class, AbstractList.class, null));
+        assertNull(classMappings.find(Integer.class, AbstractList.class, null));
+    }
+
+    @Test
+    public void testFind_MissIsForgottenWhenMappingAdded() {
+        assertNull(classMappings.find(String.class, Integer.class, null));
+
+        ClassMap classMap = mockClassMap(CharSequence.class, Integer.class, null);
+        classMappings.add(CharSequence.class, Integer.class, classMap);
+
+        assertSame(classMap, classMappings.find(String.class, Integer.class, null));
+    }
+
+    @Test
+    public void testFind_ByMapIdOnly() {
+        ClassMap classMap = mockClassMap(Number.class, CharSequence.class, "A");
+        classMappings.add(Number.class, CharSequence.class, "A", classMap);
+
+        assertSame(classMap, classMappings.find(Integer.class, String.class, "A"));
+        assertSame(classMap, classMappings.find(Integer.class, String.class, "A"));
+    }
+
+    @Test(expected = MappingException.class)
+    public void testNotFoundByMapid_Memoized() {
+        try {
+            classMappings.find(NestedClass.class, String.class, "A");
+            fail();
+        } catch (MappingException e) {
+            classMappings.find(NestedClass.class, String.class, "A");
+        }
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void shouldFailOnDuplicate() {
         ClassMap classMap = mock(ClassMap.class);
@@ -94,6 +166,15 @@ public class ClassMappingsTest extends AbstractDozerTest {
         classMappings.add(String.class, String.class, classMap);
     }
 
+    private static ClassMap mockClassMap(Class<?> srcClass, Class<?> destClass, String mapId) {
+        ClassMap classMap = mock(ClassMap.class);
+        doReturn(srcClass).when(classMap).getSrcClassToMap();
+        doReturn(destClass).when(classMap).getDestClassToMap();
+        when(classMap.getMapId()).thenReturn(mapId);
+
+        return classMap;
+    }
+
     public static class NestedClass {
 
     }
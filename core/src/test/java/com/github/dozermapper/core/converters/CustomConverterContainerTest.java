@@ -20,6 +20,7 @@ import java.util.List;
 
 import com.github.dozermapper.core.AbstractDozerTest;
 import com.github.dozermapper.core.cache.CacheKeyFactory;
+import com.github.dozermapper.core.cache.ConcurrentCache;
 import com.github.dozermapper.core.cache.DefaultCache;
 
 import org.junit.Before;
@@ -116,4 +117,22 @@ public class CustomConverterContainerTest extends AbstractDozerTest {
 
         assertEquals(1, cache.getSize());
     }
+
+    @Test
+    public void shouldServeNegativeResultFromCache() {
+        ConcurrentCache<Object, Object> concurrentCache = new ConcurrentCache<>("NAME", 10);
+        CustomConverterDescription description = new CustomConverterDescription();
+        description.setClassA(String.class);
+        description.setClassB(String.class);
+        description.setType(Void.class);
+        ccc.addConverter(description);
+
+        assertNull(ccc.getCustomConverter(Integer.class, Double.class, concurrentCache));
+        assertEquals(1, concurrentCache.getSize());
+
+        description.setClassA(Integer.class);
+        description.setClassB(Double.class);
+
+        assertNull("negative result should have been cached", ccc.getCustomConverter(Integer.class, Double.class, concurrentCache));
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.converters;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.github.dozermapper.core.AbstractDozerTest;
+import com.github.dozermapper.core.ConverterScope;
+import com.github.dozermapper.core.CustomConverter;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class CustomConverterRegistryTest extends AbstractDozerTest {
+
+    private final CustomConverterRegistry registry = new CustomConverterRegistry(Collections.emptyList());
+
+    @Test
+    public void shouldCreateInstancePerConversionByDefault() {
+        Map<Class<?>, CustomConverter> mappingScoped = new HashMap<>();
+
+        assertNotSame(registry.getConverter(PrototypeConverter.class, mappingScoped),
+                      registry.getConverter(PrototypeConverter.class, mappingScoped));
+    }
+
+    @Test
+    public void shouldShareSingletonConverter() {
+        assertSame(registry.getConverter(SingletonConverter.class, new HashMap<>()),
+                   registry.getConverter(SingletonConverter.class, new HashMap<>()));
+    }
+
+    @Test
+    public void shouldShareMappingScopedConverterWithinMapping() {
+        Map<Class<?>, CustomConverter> mappingScoped = new HashMap<>();
+        CustomConverter converter = registry.getConverter(MappingConverter.class, mappingScoped);
+
+        assertSame(converter, registry.getConverter(MappingConverter.class, mappingScoped));
+        assertNotSame(converter, registry.getConverter(MappingConverter.class, new HashMap<>()));
+    }
+
+    @Test
+    public void shouldPreferLastInjectedInstance() {
+        PrototypeConverter first = new PrototypeConverter();
+        PrototypeConverter second = new PrototypeConverter();
+        CustomConverterRegistry injected = new CustomConverterRegistry(Arrays.asList(first, new SingletonConverter(), second));
+
+        assertSame(second, injected.getConverter(PrototypeConverter.class, new HashMap<>()));
+        assertSame(second, injected.getConverter(PrototypeConverter.class, new HashMap<>()));
+    }
+
+    public static class PrototypeConverter implements CustomConverter {
+
+        @Override
+        public Object convert(Object existingDestinationFieldValue, Object sourceFieldValue, Class<?> destinationClass,
+                              Class<?> sourceClass) {
+            return sourceFieldValue;
+        }
+    }
+
+    @ConverterScope(ConverterScope.Type.SINGLETON)
+    public static class SingletonConverter extends PrototypeConverter {
+    }
+
+    @ConverterScope(ConverterScope.Type.MAPPING)
+    public static class MappingConverter extends PrototypeConverter {
+    }
+}
@@ -107,6 +107,11 @@ public class DateConverterTest extends AbstractDozerTest {
         }
     }
 
+    @Test(expected = ConversionException.class)
+    public void testDestinationWithoutLongConstructor() {
+        converter.convert(StringBuilder.class, new java.util.Date(1L));
+    }
+
     @Test
     public void testXmlGregorianCalendar() {
         XMLGregorianCalendar xmlCalendar = mock(XMLGregorianCalendar.class);
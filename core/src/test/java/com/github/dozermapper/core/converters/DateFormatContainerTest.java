@@ -0,0 +1,82 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.converters;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+
+import com.github.dozermapper.core.AbstractDozerTest;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class DateFormatContainerTest extends AbstractDozerTest {
+
+    @Test
+    public void shouldReturnNullWithoutPattern() {
+        DateFormatContainer container = new DateFormatContainer(null);
+
+        assertNull(container.getDateFormat());
+        assertNull(container.getDateTimeFormatter());
+    }
+
+    @Test
+    public void shouldReuseDateTimeFormatter() {
+        DateFormatContainer container = new DateFormatContainer("yyyy-MM-dd");
+
+        assertSame(container.getDateTimeFormatter(), container.getDateTimeFormatter());
+    }
+
+    @Test
+    public void shouldReturnNewDateFormatPerCall() {
+        DateFormatContainer container = new DateFormatContainer("yyyy-MM-dd");
+
+        assertNotSame(container.getDateFormat(), container.getDateFormat());
+        assertEquals("yyyy-MM-dd", ((SimpleDateFormat)container.getDateFormat()).toPattern());
+    }
+
+    @Test
+    public void shouldNotLeakTimeZoneOfParsedDates() throws Exception {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+        try {
+            DateFormatContainer container = new DateFormatContainer("yyyy-MM-dd HH:mm zzz");
+            String formatted = container.getDateFormat().format(new Date(0));
+
+            container.getDateFormat().parse("2020-01-01 10:00 PST");
+
+            assertEquals(formatted, container.getDateFormat().format(new Date(0)));
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void shouldPreferExplicitDateFormat() {
+        DateFormatContainer container = new DateFormatContainer("yyyy-MM-dd");
+        DateFormat dateFormat = new SimpleDateFormat("dd.MM.yyyy");
+        container.setDateFormat(dateFormat);
+
+        assertSame(dateFormat, container.getDateFormat());
+    }
+}
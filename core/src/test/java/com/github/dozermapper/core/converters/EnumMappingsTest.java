@@ -0,0 +1,104 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.converters;
+
+import com.github.dozermapper.core.AbstractDozerTest;
+import com.github.dozermapper.core.MappingException;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertSame;
+
+public class EnumMappingsTest extends AbstractDozerTest {
+
+    @Test
+    public void canMapByName() {
+        assertSame(Dest.OPEN, EnumMappings.map(Src.OPEN, Dest.class));
+        assertSame(Dest.CLOSED, EnumMappings.map(Src.CLOSED, Dest.class));
+    }
+
+    @Test
+    public void canMapConstantsWithBody() {
+        assertSame(Dest.CLOSED, EnumMappings.map(Src.CLOSED, Dest.CLOSED.getClass()));
+        assertSame(Src.CLOSED, EnumMappings.map(Dest.CLOSED, Src.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void canFailOnMissingName() {
+        EnumMappings.map(Src.PENDING, Dest.class);
+    }
+
+    @Test
+    public void canMapByString() {
+        assertSame(Dest.OPEN, EnumMappings.mapByString(Alias.FIRST, Dest.class));
+        assertSame(Dest.OPEN, EnumMappings.mapByString(Src.OPEN, Dest.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void canFailOnMissingString() {
+        EnumMappings.mapByString(Dest.CLOSED, Src.class);
+    }
+
+    @Test
+    public void canLookUpByOrdinal() {
+        assertSame(Dest.OPEN, EnumMappings.valueOf(Dest.class, 1));
+        assertSame(Dest.CLOSED, EnumMappings.valueOf(Dest.CLOSED.getClass(), 0));
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void canFailOnMissingOrdinal() {
+        EnumMappings.valueOf(Dest.class, 2);
+    }
+
+    @Test
+    public void canConvertEnumsAndNumbers() {
+        EnumConverter converter = new EnumConverter();
+
+        assertSame(Dest.OPEN, converter.convert(Dest.class, Src.OPEN));
+        assertSame(Dest.OPEN, converter.convert(Dest.class, 1L));
+        assertSame(Dest.CLOSED, converter.convert(Dest.class, (byte)0));
+        assertSame(Dest.OPEN, converter.convert(Dest.class, "OPEN"));
+        assertSame(Dest.OPEN, converter.convert(Dest.class, Alias.FIRST));
+    }
+
+    @Test(expected = MappingException.class)
+    public void canConvertEnumsByString() {
+        new EnumConverter().convert(Src.class, Dest.CLOSED);
+    }
+
+    public enum Src {
+        OPEN, PENDING, CLOSED
+    }
+
+    public enum Alias {
+        FIRST {
+            @Override
+            public String toString() {
+                return "OPEN";
+            }
+        }
+    }
+
+    public enum Dest {
+        CLOSED {
+            @Override
+            public String toString() {
+                return "closed";
+            }
+        },
+        OPEN
+    }
+}
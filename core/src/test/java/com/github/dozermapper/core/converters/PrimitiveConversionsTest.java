@@ -0,0 +1,99 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.converters;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.github.dozermapper.core.AbstractDozerTest;
+
+import org.apache.commons.beanutils.Converter;
+import org.apache.commons.beanutils.converters.BigDecimalConverter;
+import org.apache.commons.beanutils.converters.BigIntegerConverter;
+import org.apache.commons.beanutils.converters.BooleanConverter;
+import org.apache.commons.beanutils.converters.CharacterConverter;
+import org.apache.commons.beanutils.converters.DoubleConverter;
+import org.apache.commons.beanutils.converters.FloatConverter;
+import org.apache.commons.lang3.ClassUtils;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PrimitiveConversionsTest extends AbstractDozerTest {
+
+    private static final Object[] VALUES = {Boolean.TRUE, Boolean.FALSE, 'x', (byte)-7, (short)300, -70000, Long.MAX_VALUE,
+                                            1.5f, -2.25d, new BigInteger("123456789012345678901234567890"), new BigDecimal("1.10"),
+                                            "42", " 17 ", "-3", "+8", "1e3", "0x10", "1.5", "abc", " "};
+
+    @Test
+    public void shouldMatchRegularConverters() {
+        Map<Class<?>, Converter> converters = new HashMap<>();
+        converters.put(String.class, new StringConverter(new DateFormatContainer(null)));
+        converters.put(Boolean.class, new BooleanConverter());
+        converters.put(Character.class, new CharacterConverter());
+        converters.put(Byte.class, new ByteConverter());
+        converters.put(Short.class, new ShortConverter());
+        converters.put(Integer.class, new IntegerConverter());
+        converters.put(Long.class, new LongConverter());
+        converters.put(Float.class, new FloatConverter());
+        converters.put(Double.class, new DoubleConverter());
+        converters.put(BigInteger.class, new BigIntegerConverter());
+        converters.put(BigDecimal.class, new BigDecimalConverter());
+
+        int compared = 0;
+        for (Object value : VALUES) {
+            for (Map.Entry<Class<?>, Converter> entry : converters.entrySet()) {
+                Class<?>[] destClasses = {entry.getKey(), ClassUtils.wrapperToPrimitive(entry.getKey())};
+                for (Class<?> destClass : destClasses) {
+                    Function<Object, Object> conversion = destClass == null ? null : PrimitiveConversions.find(value.getClass(), destClass);
+                    Object result = conversion == null ? null : conversion.apply(value);
+                    if (result != null) {
+                        Object expected = entry.getValue().convert(destClass, value);
+                        assertEquals(value + " -> " + destClass, expected, result);
+                        assertSame(value + " -> " + destClass, expected.getClass(), result.getClass());
+                        compared++;
+                    }
+                }
+            }
+        }
+
+        assertTrue(compared > 100);
+    }
+
+    @Test
+    public void shouldLeaveNarrowingToRegularConverters() {
+        assertNull(PrimitiveConversions.find(Long.class, Integer.class));
+        assertNull(PrimitiveConversions.find(Double.class, Float.TYPE));
+        assertNull(PrimitiveConversions.find(String.class, Boolean.class));
+    }
+
+    @Test
+    public void shouldLeaveInvalidValuesToRegularConverters() {
+        Function<Object, Object> conversion = PrimitiveConversions.find(String.class, Integer.TYPE);
+
+        assertNotNull(conversion);
+        assertEquals(12, conversion.apply(" 12"));
+        assertNull(conversion.apply("twelve"));
+        assertNull(conversion.apply(" "));
+    }
+}
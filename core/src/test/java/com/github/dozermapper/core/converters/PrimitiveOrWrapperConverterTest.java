@@ -23,6 +23,7 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
@@ -566,6 +567,17 @@ public class PrimitiveOrWrapperConverterTest extends AbstractDozerTest {
         assertThat(result, equalTo(new File("hello")));
     }
 
+    @Test
+    public void shouldShareConvertersPerPattern() {
+        DateFormatContainer dfc = new DateFormatContainer("yyyy-MM-dd");
+        LocalDate expected = LocalDate.of(2018, 3, 4);
+
+        assertEquals(expected, converter.convert("2018-03-04", LocalDate.class, dfc));
+        assertEquals(expected, converter.convert("2018-03-04", LocalDate.class, new DateFormatContainer("yyyy-MM-dd")));
+        assertEquals(expected, converter.convert("04.03.2018", LocalDate.class, new DateFormatContainer("dd.MM.yyyy")));
+        assertEquals("2018-03-04", converter.convert(expected, String.class, dfc));
+    }
+
     @Test
     public void shouldConvertClass() {
         Class<Date> result = (Class<Date>)converter.convert("java.util.Date", Class.class, null);
@@ -15,6 +15,7 @@
  */
 package com.github.dozermapper.core.converters;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 
 import com.github.dozermapper.core.AbstractDozerTest;
@@ -38,5 +39,12 @@ public class StringConstructorConverterTest extends AbstractDozerTest {
         Object result = converter.convert(ArrayList.class, "A");
 
         assertEquals("A", result);
+        assertEquals("B", converter.convert(ArrayList.class, "B"));
+    }
+
+    @Test
+    public void testStringConstructor() {
+        assertEquals(new BigDecimal("1.5"), converter.convert(BigDecimal.class, "1.5"));
+        assertEquals(new BigDecimal("2.5"), converter.convert(BigDecimal.class, "2.5"));
     }
 }
@@ -16,10 +16,13 @@
 package com.github.dozermapper.core.events;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -116,4 +119,40 @@ public class DefaultEventManagerTest {
         verify(listener).onMappingFinished(mockedEvent);
         assertTrue(true);
     }
+
+    @Test
+    public void disablesEventsWithoutListeners() {
+        EventManager manager = new DefaultEventManager(new ArrayList<>(0));
+
+        for (EventTypes type : EventTypes.values()) {
+            assertFalse(manager.isEnabled(type));
+        }
+    }
+
+    @Test
+    public void subscribesOnlyToOverriddenCallbacks() {
+        Event mockedEvent = mock(DefaultEvent.class);
+        when(mockedEvent.getType()).thenReturn(EventTypes.MAPPING_FINISHED);
+
+        FinishedListener listener = new FinishedListener();
+        EventManager manager = new DefaultEventManager(Collections.singletonList(listener));
+
+        assertFalse(manager.isEnabled(EventTypes.MAPPING_STARTED));
+        assertFalse(manager.isEnabled(EventTypes.MAPPING_PRE_WRITING_DEST_VALUE));
+        assertFalse(manager.isEnabled(EventTypes.MAPPING_POST_WRITING_DEST_VALUE));
+        assertTrue(manager.isEnabled(EventTypes.MAPPING_FINISHED));
+
+        manager.on(mockedEvent);
+        assertEquals(1, listener.finished);
+    }
+
+    private static class FinishedListener implements EventListener {
+
+        private int finished;
+
+        @Override
+        public void onMappingFinished(Event event) {
+            finished++;
+        }
+    }
 }
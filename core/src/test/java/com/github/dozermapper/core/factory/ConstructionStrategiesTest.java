@@ -34,6 +34,7 @@ import org.junit.Test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
@@ -109,6 +110,15 @@ public class ConstructionStrategiesTest extends AbstractDozerTest {
         fail();
     }
 
+    @Test
+    public void shouldReuseCreateMethod() {
+        directive.setTargetClass(SelfFactory.class);
+        directive.setCreateMethod("create");
+
+        assertEquals("a", ((SelfFactory)byCreateMethod.create(directive)).getName());
+        assertEquals("a", ((SelfFactory)byCreateMethod.create(directive)).getName());
+    }
+
     @Test
     public void shouldAcceptCalendar() {
         directive.setTargetClass(Calendar.class);
@@ -123,6 +133,7 @@ public class ConstructionStrategiesTest extends AbstractDozerTest {
         directive.setTargetClass(Calendar.class);
         Calendar result = (Calendar)byGetInstance.create(directive);
         assertNotNull(result);
+        assertNull(directive.getCreateMethod());
     }
 
     @Test
@@ -195,6 +206,15 @@ public class ConstructionStrategiesTest extends AbstractDozerTest {
         byConstructor.create(directive);
     }
 
+    @Test
+    public void shouldFallBackToAlternateClass() {
+        directive.setTargetClass(SelfFactory.class);
+        directive.setAlternateClass(String.class);
+
+        assertEquals("", byConstructor.create(directive));
+        assertEquals("", byConstructor.create(directive));
+    }
+
     @Test(expected = MappingException.class)
     public void shouldFailToReturnCorrectType() {
         directive.setFactoryName(MyBeanFactory.class.getName());
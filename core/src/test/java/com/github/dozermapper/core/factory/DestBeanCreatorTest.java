@@ -62,4 +62,23 @@ public class DestBeanCreatorTest extends AbstractDozerTest {
         assertNotNull(treeMap);
     }
 
+    @Test
+    public void testResolvedStrategyDependsOnDirective() {
+        BeanCreationDirective byConstructor = new BeanCreationDirective(null, null, Constructed.class, null, null, null, null, null);
+        BeanCreationDirective skipConstructor = new BeanCreationDirective(null, null, Constructed.class, null, null, null, null, true);
+
+        assertEquals("constructed", ((Constructed)destBeanCreator.create(byConstructor)).name);
+        assertNull(((Constructed)destBeanCreator.create(skipConstructor)).name);
+        assertEquals("constructed", ((Constructed)destBeanCreator.create(byConstructor)).name);
+    }
+
+    public static class Constructed {
+
+        private final String name;
+
+        public Constructed() {
+            this.name = "constructed";
+        }
+    }
+
 }
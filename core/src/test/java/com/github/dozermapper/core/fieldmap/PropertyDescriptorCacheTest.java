@@ -0,0 +1,67 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.fieldmap;
+
+import com.github.dozermapper.core.AbstractDozerTest;
+import com.github.dozermapper.core.propertydescriptor.DozerPropertyDescriptor;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+public class PropertyDescriptorCacheTest extends AbstractDozerTest {
+
+    private final PropertyDescriptorCache cache = new PropertyDescriptorCache();
+
+    @Test
+    public void canCacheFirstClass() {
+        DozerPropertyDescriptor descriptor = mock(DozerPropertyDescriptor.class);
+
+        assertNull(cache.get(String.class));
+        assertSame(descriptor, cache.put(String.class, descriptor));
+        assertSame(descriptor, cache.get(String.class));
+        assertNull(cache.get(Integer.class));
+    }
+
+    @Test
+    public void canCacheFurtherClasses() {
+        DozerPropertyDescriptor first = mock(DozerPropertyDescriptor.class);
+        DozerPropertyDescriptor second = mock(DozerPropertyDescriptor.class);
+        DozerPropertyDescriptor third = mock(DozerPropertyDescriptor.class);
+
+        cache.put(String.class, first);
+        cache.put(Integer.class, second);
+        cache.put(Long.class, third);
+
+        assertSame(first, cache.get(String.class));
+        assertSame(second, cache.get(Integer.class));
+        assertSame(third, cache.get(Long.class));
+    }
+
+    @Test
+    public void canKeepDescriptorCachedFirst() {
+        DozerPropertyDescriptor first = mock(DozerPropertyDescriptor.class);
+        DozerPropertyDescriptor second = mock(DozerPropertyDescriptor.class);
+
+        cache.put(String.class, first);
+        cache.put(Integer.class, second);
+
+        assertSame(first, cache.put(String.class, mock(DozerPropertyDescriptor.class)));
+        assertSame(second, cache.put(Integer.class, mock(DozerPropertyDescriptor.class)));
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.functional_tests;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.MappingException;
+import com.github.dozermapper.core.config.Settings;
+import com.github.dozermapper.core.events.Event;
+import com.github.dozermapper.core.events.EventListener;
+import com.github.dozermapper.core.vo.SimpleObj;
+import com.github.dozermapper.core.vo.SimpleObjPrime;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CompiledMappingPlansTest extends AbstractFunctionalTest {
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        mapper = compiledMapperBuilder().build();
+    }
+
+    @Test
+    public void canMapSimplePropertiesWithCompiledPlan() {
+        SimpleObj src = newInstance(SimpleObj.class);
+        src.setField1("one");
+        src.setField2(2);
+        src.setField3(new BigDecimal("3.5"));
+        src.setField4(4.0d);
+        src.setField5(Calendar.getInstance());
+        src.setField6("six");
+        src.setField7(Boolean.TRUE);
+
+        SimpleObj dest = mapper.map(src, SimpleObj.class);
+
+        assertEquals("one", dest.getField1());
+        assertEquals(Integer.valueOf(2), dest.getField2());
+        assertEquals(new BigDecimal("3.5"), dest.getField3());
+        assertEquals(Double.valueOf(4.0d), dest.getField4());
+        assertEquals(src.getField5(), dest.getField5());
+        assertEquals("six", dest.getField6());
+        assertEquals(Boolean.TRUE, dest.getField7());
+    }
+
+    @Test
+    public void canMixCompiledAndConvertedProperties() {
+        SimpleObj src = newInstance(SimpleObj.class);
+        src.setField1("one");
+        src.setField2(2);
+        src.setField6("six");
+
+        SimpleObjPrime dest = mapper.map(src, SimpleObjPrime.class);
+
+        assertEquals("one", dest.getField1());
+        assertEquals("2", dest.getField2());
+        assertEquals("six", dest.getField6());
+    }
+
+    @Test
+    public void canMapPrimitivesAndNestedObjects() {
+        Primitives child = new Primitives();
+        child.setNumber(7L);
+
+        Primitives src = new Primitives();
+        src.setCount(5);
+        src.setRatio(0.5d);
+        src.setActive(true);
+        src.setChild(child);
+
+        Primitives dest = mapper.map(src, Primitives.class);
+
+        assertEquals(5, dest.getCount());
+        assertEquals(0.5d, dest.getRatio(), 0.0d);
+        assertTrue(dest.isActive());
+        assertEquals(Long.valueOf(7L), dest.getChild().getNumber());
+    }
+
+    @Test
+    public void shouldTrimStringsWithCompiledPlan() {
+        Mapper trimmingMapper = compiledMapperBuilder()
+                .withMappingFiles("mappings/trimStringsMapping.xml")
+                .build();
+
+        SimpleObj src = newInstance(SimpleObj.class);
+        src.setField1("      valueNeedingTrimmed       ");
+
+        SimpleObjPrime dest = trimmingMapper.map(src, SimpleObjPrime.class);
+
+        assertEquals("valueNeedingTrimmed", dest.getField1());
+    }
+
+    @Test
+    public void shouldFireWriteEventsWithCompiledPlan() {
+        RecordingListener listener = new RecordingListener();
+        Mapper listeningMapper = compiledMapperBuilder()
+                .withEventListener(listener)
+                .build();
+
+        Primitives src = new Primitives();
+        src.setCount(5);
+
+        listeningMapper.map(src, Primitives.class);
+
+        assertTrue(listener.written.contains("count"));
+    }
+
+    @Test(expected = MappingException.class)
+    public void shouldWrapGetterExceptionWithCompiledPlan() {
+        mapper.map(new FailingGetter(), FailingGetter.class);
+    }
+
+    private DozerBeanMapperBuilder compiledMapperBuilder() {
+        return DozerBeanMapperBuilder.create()
+                .withSettingsProcessor(() -> Settings.builder()
+                        .withUseCompiledMappingPlans(true)
+                        .build());
+    }
+
+    public static class Primitives {
+
+        private int count;
+        private double ratio;
+        private boolean active;
+        private Long number;
+        private Primitives child;
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public double getRatio() {
+            return ratio;
+        }
+
+        public void setRatio(double ratio) {
+            this.ratio = ratio;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public Long getNumber() {
+            return number;
+        }
+
+        public void setNumber(Long number) {
+            this.number = number;
+        }
+
+        public Primitives getChild() {
+            return child;
+        }
+
+        public void setChild(Primitives child) {
+            this.child = child;
+        }
+    }
+
+    public static class FailingGetter {
+
+        private String value;
+
+        public String getValue() {
+            throw new IllegalStateException("getter failure");
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+
+    private static class RecordingListener implements EventListener {
+
+        private final List<String> written = new ArrayList<>();
+
+        @Override
+        public void onMappingStarted(Event event) {
+        }
+
+        @Override
+        public void onPreWritingDestinationValue(Event event) {
+        }
+
+        @Override
+        public void onPostWritingDestinationValue(Event event) {
+            written.add(event.getFieldMap().getDestFieldName());
+        }
+
+        @Override
+        public void onMappingFinished(Event event) {
+        }
+    }
+}
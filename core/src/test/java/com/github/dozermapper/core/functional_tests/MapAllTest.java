@@ -0,0 +1,165 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.functional_tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.github.dozermapper.core.CustomConverter;
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.MappingException;
+import com.github.dozermapper.core.loader.api.BeanMappingBuilder;
+import com.github.dozermapper.core.loader.api.FieldsMappingOptions;
+import com.github.dozermapper.core.vo.SimpleObj;
+import com.github.dozermapper.core.vo.SimpleObjPrime;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class MapAllTest extends AbstractFunctionalTest {
+
+    @Test
+    public void canMapAllSourcesInOrder() {
+        List<Object> sources = Arrays.asList(newSimpleObj("one"), newSimpleObjPrime("two"), newSimpleObj("three"));
+
+        List<SimpleObjPrime> result = mapper.mapAll(sources, SimpleObjPrime.class);
+
+        assertEquals(3, result.size());
+        assertEquals("one", result.get(0).getField1());
+        assertEquals("two", result.get(1).getField1());
+        assertEquals("three", result.get(2).getField1());
+    }
+
+    @Test
+    public void canMapSameSourceIndependently() {
+        SimpleObj src = newSimpleObj("one");
+
+        List<SimpleObjPrime> result = mapper.mapAll(Arrays.asList(src, src), SimpleObjPrime.class);
+
+        assertNotSame(result.get(0), result.get(1));
+        assertEquals("one", result.get(1).getField1());
+    }
+
+    @Test
+    public void canMapAllIntoGivenCollection() {
+        List<SimpleObjPrime> destination = new ArrayList<>(2);
+
+        List<SimpleObjPrime> result = mapper.mapAllInto(Arrays.asList(newSimpleObj("one"), newSimpleObj("two")), SimpleObjPrime.class,
+                                                        null, destination);
+
+        assertSame(destination, result);
+        assertEquals("two", destination.get(1).getField1());
+    }
+
+    @Test
+    public void canMapAllOfSequentialStream() {
+        List<String> result = mapper.mapAll(Stream.of(newSimpleObj("one"), newSimpleObjPrime("two")), SimpleObjPrime.class)
+                .map(SimpleObjPrime::getField1)
+                .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList("one", "two"), result);
+    }
+
+    @Test
+    public void canMapAllOfParallelStream() {
+        List<String> expected = new ArrayList<>();
+        List<SimpleObj> sources = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expected.add(String.valueOf(i));
+            sources.add(newSimpleObj(String.valueOf(i)));
+        }
+
+        List<String> result = mapper.mapAll(sources.parallelStream(), SimpleObjPrime.class)
+                .map(SimpleObjPrime::getField1)
+                .collect(Collectors.toList());
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void canMapAllOfStreamMadeParallelAfterwards() {
+        List<String> expected = new ArrayList<>();
+        List<SimpleObj> sources = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            expected.add(String.valueOf(i));
+            sources.add(newSimpleObj(String.valueOf(i)));
+        }
+
+        List<String> result = mapper.mapAll(sources.stream(), SimpleObjPrime.class)
+                .parallel()
+                .map(SimpleObjPrime::getField1)
+                .collect(Collectors.toList());
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void canUseNewConverterInstancePerSource() {
+        Mapper converting = DozerBeanMapperBuilder.create()
+                .withMappingBuilder(new BeanMappingBuilder() {
+                    @Override
+                    protected void configure() {
+                        mapping(SimpleObj.class, SimpleObjPrime.class)
+                                .fields("field1", "field1", FieldsMappingOptions.customConverter(CountingConverter.class));
+                    }
+                })
+                .build();
+        int instances = CountingConverter.INSTANCES.get();
+
+        converting.mapAll(Arrays.asList(newSimpleObj("one"), newSimpleObj("two")), SimpleObjPrime.class);
+
+        assertEquals(instances + 2, CountingConverter.INSTANCES.get());
+    }
+
+    @Test(expected = MappingException.class)
+    public void shouldRejectNullSource() {
+        mapper.mapAll(Arrays.asList(newSimpleObj("one"), null), SimpleObjPrime.class);
+    }
+
+    private SimpleObj newSimpleObj(String field1) {
+        SimpleObj result = newInstance(SimpleObj.class);
+        result.setField1(field1);
+        return result;
+    }
+
+    private SimpleObjPrime newSimpleObjPrime(String field1) {
+        SimpleObjPrime result = newInstance(SimpleObjPrime.class);
+        result.setField1(field1);
+        return result;
+    }
+
+    public static class CountingConverter implements CustomConverter {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public CountingConverter() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public Object convert(Object existingDestinationFieldValue, Object sourceFieldValue, Class<?> destinationClass, Class<?> sourceClass) {
+            return sourceFieldValue;
+        }
+    }
+}
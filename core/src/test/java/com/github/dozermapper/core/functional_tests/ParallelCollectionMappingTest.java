@@ -0,0 +1,281 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.functional_tests;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.MappingException;
+import com.github.dozermapper.core.config.Settings;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ParallelCollectionMappingTest extends AbstractFunctionalTest {
+
+    private ForkJoinPool pool;
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        pool = new ForkJoinPool(4);
+        mapper = DozerBeanMapperBuilder.create()
+                .withCollectionMappingPool(pool)
+                .withSettingsProcessor(() -> Settings.builder()
+                        .withParallelCollectionMappingThreshold(10)
+                        .build())
+                .build();
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void canMapListElementsInOrder() {
+        Order src = newOrder(100);
+
+        Order dest = mapper.map(src, Order.class);
+
+        assertEquals(100, dest.getLines().size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("line" + i, dest.getLines().get(i).getName());
+            assertNotSame(src.getLines().get(i), dest.getLines().get(i));
+        }
+    }
+
+    @Test
+    public void canMapSetElements() {
+        Order src = newOrder(50);
+
+        Order dest = mapper.map(src, Order.class);
+
+        assertEquals(50, dest.getTags().size());
+        assertEquals(src.getTags(), dest.getTags());
+    }
+
+    @Test
+    public void canResolveReferencesToObjectsMappedBeforehand() {
+        Order src = newOrder(40);
+
+        Order dest = mapper.map(src, Order.class);
+
+        for (Line line : dest.getLines()) {
+            assertSame(dest, line.getOrder());
+        }
+    }
+
+    @Test
+    public void canReuseElementMappedByAnotherChunk() {
+        Order src = newOrder(40);
+        src.setMainLine(src.getLines().get(0));
+
+        Order dest = mapper.map(src, Order.class);
+
+        assertSame(dest.getLines().get(0), dest.getMainLine());
+    }
+
+    @Test
+    public void canMapObjectReferencedFromSeveralChunksOnce() {
+        Order src = newOrder(100);
+        Product product = new Product();
+        product.setName("product");
+        for (Line line : src.getLines()) {
+            line.setProduct(product);
+        }
+
+        Order dest = mapper.map(src, Order.class);
+
+        Product destProduct = dest.getLines().get(0).getProduct();
+        assertNotSame(product, destProduct);
+        for (Line line : dest.getLines()) {
+            assertSame(destProduct, line.getProduct());
+        }
+    }
+
+    @Test
+    public void canMapCollectionsBelowThresholdSequentially() {
+        Order src = newOrder(3);
+
+        Order dest = mapper.map(src, Order.class);
+
+        assertEquals(3, dest.getLines().size());
+        assertSame(dest, dest.getLines().get(2).getOrder());
+    }
+
+    @Test(expected = MappingException.class)
+    public void canPropagateElementMappingFailure() {
+        Order src = newOrder(20);
+        src.getLines().get(15).setFailing(true);
+
+        mapper.map(src, Order.class);
+    }
+
+    @Test
+    public void canCancelRemainingChunksOnFailure() {
+        Order src = newOrder(200);
+        for (Line line : src.getLines()) {
+            line.setSlow(true);
+        }
+        src.getLines().get(0).setFailing(true);
+        Line.SLOW_NAMES_READ.set(0);
+
+        try {
+            mapper.map(src, Order.class);
+            fail();
+        } catch (MappingException e) {
+            pool.awaitQuiescence(10, TimeUnit.SECONDS);
+        }
+
+        // without cancellation the other chunks would map all of their 150 elements
+        assertTrue(Line.SLOW_NAMES_READ.get() < 150);
+    }
+
+    private Order newOrder(int lineCount) {
+        Order order = new Order();
+        for (int i = 0; i < lineCount; i++) {
+            Line line = new Line();
+            line.setName("line" + i);
+            line.setOrder(order);
+            order.getLines().add(line);
+            order.getTags().add("tag" + i);
+        }
+
+        return order;
+    }
+
+    public static class Order {
+
+        private List<Line> lines = new ArrayList<>();
+        private Set<String> tags = new HashSet<>();
+        private Line mainLine;
+
+        public List<Line> getLines() {
+            return lines;
+        }
+
+        public void setLines(List<Line> lines) {
+            this.lines = lines;
+        }
+
+        public Set<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(Set<String> tags) {
+            this.tags = tags;
+        }
+
+        public Line getMainLine() {
+            return mainLine;
+        }
+
+        public void setMainLine(Line mainLine) {
+            this.mainLine = mainLine;
+        }
+    }
+
+    public static class Line {
+
+        static final AtomicInteger SLOW_NAMES_READ = new AtomicInteger();
+
+        private String name;
+        private Order order;
+        private boolean failing;
+        private boolean slow;
+        private Product product;
+
+        public String getName() {
+            if (failing) {
+                throw new IllegalStateException("failing line");
+            }
+            if (slow) {
+                SLOW_NAMES_READ.incrementAndGet();
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Order getOrder() {
+            return order;
+        }
+
+        public void setOrder(Order order) {
+            this.order = order;
+        }
+
+        public boolean isFailing() {
+            return failing;
+        }
+
+        public void setFailing(boolean failing) {
+            this.failing = failing;
+        }
+
+        public boolean isSlow() {
+            return slow;
+        }
+
+        public void setSlow(boolean slow) {
+            this.slow = slow;
+        }
+
+        public Product getProduct() {
+            return product;
+        }
+
+        public void setProduct(Product product) {
+            this.product = product;
+        }
+    }
+
+    public static class Product {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
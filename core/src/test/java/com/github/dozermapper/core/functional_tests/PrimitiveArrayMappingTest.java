@@ -0,0 +1,145 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.functional_tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class PrimitiveArrayMappingTest extends AbstractFunctionalTest {
+
+    @Test
+    public void canWidenPrimitiveArrays() {
+        Samples src = new Samples();
+        src.setCounts(new int[] {1, 2, Integer.MAX_VALUE});
+
+        WideSamples dest = mapper.map(src, WideSamples.class);
+
+        assertArrayEquals(new long[] {1, 2, Integer.MAX_VALUE}, dest.getCounts());
+    }
+
+    @Test
+    public void canAppendToExistingPrimitiveArray() {
+        Samples src = new Samples();
+        src.setCounts(new int[] {3});
+        WideSamples dest = new WideSamples();
+        dest.setCounts(new long[] {1, 2});
+
+        mapper.map(src, dest);
+
+        assertArrayEquals(new long[] {1, 2, 3}, dest.getCounts());
+    }
+
+    @Test
+    public void canBoxPrimitiveArrays() {
+        Samples src = new Samples();
+        src.setValues(new double[] {0.5, 1.5});
+
+        WideSamples dest = mapper.map(src, WideSamples.class);
+
+        assertArrayEquals(new Double[] {0.5, 1.5}, dest.getValues());
+    }
+
+    @Test
+    public void canMapPrimitiveArrayToWrapperList() {
+        Samples src = new Samples();
+        src.setPoints(new double[] {1.0, 2.0});
+        WideSamples dest = new WideSamples();
+        dest.getPoints().add(0.5);
+
+        mapper.map(src, dest);
+
+        assertEquals(Arrays.asList(0.5, 1.0, 2.0), dest.getPoints());
+    }
+
+    @Test
+    public void canMapWrapperListToPrimitiveArray() {
+        WideSamples src = new WideSamples();
+        src.getPoints().add(1.0);
+        src.getPoints().add(2.0);
+
+        Samples dest = mapper.map(src, Samples.class);
+
+        assertArrayEquals(new double[] {1.0, 2.0}, dest.getPoints(), 0);
+    }
+
+    public static class Samples {
+
+        private int[] counts;
+        private double[] values;
+        private double[] points;
+
+        public int[] getCounts() {
+            return counts;
+        }
+
+        public void setCounts(int[] counts) {
+            this.counts = counts;
+        }
+
+        public double[] getValues() {
+            return values;
+        }
+
+        public void setValues(double[] values) {
+            this.values = values;
+        }
+
+        public double[] getPoints() {
+            return points;
+        }
+
+        public void setPoints(double[] points) {
+            this.points = points;
+        }
+    }
+
+    public static class WideSamples {
+
+        private long[] counts;
+        private Double[] values;
+        private List<Double> points = new ArrayList<>();
+
+        public long[] getCounts() {
+            return counts;
+        }
+
+        public void setCounts(long[] counts) {
+            this.counts = counts;
+        }
+
+        public Double[] getValues() {
+            return values;
+        }
+
+        public void setValues(Double[] values) {
+            this.values = values;
+        }
+
+        public List<Double> getPoints() {
+            return points;
+        }
+
+        public void setPoints(List<Double> points) {
+            this.points = points;
+        }
+    }
+}
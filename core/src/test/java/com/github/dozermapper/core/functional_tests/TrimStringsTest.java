@@ -70,4 +70,28 @@ public class TrimStringsTest extends AbstractFunctionalTest {
         assertEquals("valueNeedingTrimmed", dest.getField1());
     }
 
+    @Test
+    public void testTrimStrings_CollectionElements() {
+        Values src = newInstance(Values.class);
+        src.setValues(new String[] {"   valueNeedingTrimmed   ", " anotherValueNeedingTrimmed"});
+
+        Values dest = mapper.map(src, Values.class);
+
+        assertEquals("valueNeedingTrimmed", dest.getValues()[0]);
+        assertEquals("anotherValueNeedingTrimmed", dest.getValues()[1]);
+    }
+
+    public static class Values {
+
+        private String[] values;
+
+        public String[] getValues() {
+            return values;
+        }
+
+        public void setValues(String[] values) {
+            this.values = values;
+        }
+    }
+
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.functional_tests.builder;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Immutable;
+import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.loader.api.BeanMappingBuilder;
+import com.github.dozermapper.core.loader.api.FieldsMappingOptions;
+import com.github.dozermapper.core.loader.api.TypeMappingOptions;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class CopyImmutableByReferenceTest {
+
+    private final Mapper mapper = DozerBeanMapperBuilder.buildDefault();
+
+    @Test
+    public void canCopyImmutableValuesByReference() {
+        Order src = new Order();
+        src.setId(UUID.randomUUID());
+        src.setTotal(new Money(new BigDecimal("9.99"), "EUR"));
+        src.setCode(new Code());
+        src.getCode().setValue("A");
+
+        Order dest = mapper.map(src, Order.class);
+
+        assertSame(src.getId(), dest.getId());
+        assertSame(src.getTotal(), dest.getTotal());
+        assertSame(src.getCode(), dest.getCode());
+    }
+
+    @Test
+    public void canStillMapMutableValues() {
+        Order src = new Order();
+        src.setLine(new Line());
+        src.getLine().setQuantity(3);
+
+        Order dest = mapper.map(src, Order.class);
+
+        assertNotSame(src.getLine(), dest.getLine());
+        assertEquals(3, dest.getLine().getQuantity());
+    }
+
+    @Test
+    public void canMapImmutableValuesWithConfiguredMapping() {
+        Mapper configured = DozerBeanMapperBuilder.create()
+                .withMappingBuilder(new BeanMappingBuilder() {
+                    @Override
+                    protected void configure() {
+                        mapping(Code.class, Code.class);
+                    }
+                })
+                .build();
+
+        Order src = new Order();
+        src.setCode(new Code());
+        src.getCode().setValue("A");
+
+        Order dest = configured.map(src, Order.class);
+
+        assertNotSame(src.getCode(), dest.getCode());
+        assertEquals("A", dest.getCode().getValue());
+    }
+
+    @Test
+    public void canMapImmutableValuesWithMapId() {
+        Mapper configured = DozerBeanMapperBuilder.create()
+                .withMappingBuilder(new BeanMappingBuilder() {
+                    @Override
+                    protected void configure() {
+                        mapping(Order.class, Order.class)
+                                .fields("code", "code", FieldsMappingOptions.useMapId("code"));
+                        mapping(Code.class, Code.class, TypeMappingOptions.mapId("code"));
+                    }
+                })
+                .build();
+
+        Order src = new Order();
+        src.setCode(new Code());
+        src.getCode().setValue("A");
+
+        Order dest = configured.map(src, Order.class);
+
+        assertNotSame(src.getCode(), dest.getCode());
+        assertEquals("A", dest.getCode().getValue());
+    }
+
+    public static class Order {
+
+        private UUID id;
+        private Money total;
+        private Code code;
+        private Line line;
+
+        public UUID getId() {
+            return id;
+        }
+
+        public void setId(UUID id) {
+            this.id = id;
+        }
+
+        public Money getTotal() {
+            return total;
+        }
+
+        public void setTotal(Money total) {
+            this.total = total;
+        }
+
+        public Code getCode() {
+            return code;
+        }
+
+        public void setCode(Code code) {
+            this.code = code;
+        }
+
+        public Line getLine() {
+            return line;
+        }
+
+        public void setLine(Line line) {
+            this.line = line;
+        }
+    }
+
+    public static final class Money {
+
+        private final BigDecimal amount;
+        private final String currency;
+
+        public Money(BigDecimal amount, String currency) {
+            this.amount = amount;
+            this.currency = currency;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+    }
+
+    @Immutable
+    public static class Code {
+
+        private String value;
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class Line {
+
+        private int quantity;
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.functional_tests.builder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.classmap.LazyLoadPolicy;
+import com.github.dozermapper.core.config.Settings;
+import com.github.dozermapper.core.events.Event;
+import com.github.dozermapper.core.events.EventListener;
+import com.github.dozermapper.core.loader.api.BeanMappingBuilder;
+import com.github.dozermapper.core.loader.api.FieldsMappingOptions;
+import com.github.dozermapper.core.util.HibernateProxyResolver;
+
+import org.hibernate.LazyInitializationException;
+import org.hibernate.collection.internal.PersistentBag;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LazyLoadPolicyTest {
+
+    private LazyInitializer lazyInitializer;
+    private Order order;
+
+    @Before
+    public void setUp() {
+        lazyInitializer = mock(LazyInitializer.class);
+        when(lazyInitializer.isUninitialized()).thenReturn(true);
+        when(lazyInitializer.getIdentifier()).thenReturn(7L);
+        when(lazyInitializer.getImplementation()).thenThrow(new LazyInitializationException("customer was loaded"));
+
+        order = new Order();
+        order.setCustomer(new CustomerProxy(lazyInitializer));
+        // an uninitialized bag without session, iterating it throws a LazyInitializationException
+        order.setItems(new PersistentBag());
+    }
+
+    @Test
+    public void canInitializeByDefault() {
+        Customer customer = new Customer();
+        customer.setId(7L);
+        customer.setName("loaded");
+        LazyInitializer loadingInitializer = mock(LazyInitializer.class);
+        when(loadingInitializer.isUninitialized()).thenReturn(true);
+        when(loadingInitializer.getImplementation()).thenReturn(customer);
+        order.setCustomer(new CustomerProxy(loadingInitializer));
+        order.setItems(new ArrayList<>());
+
+        OrderDto dest = buildMapper(LazyLoadPolicy.INITIALIZE).map(order, OrderDto.class);
+
+        assertEquals("loaded", dest.getCustomer().getName());
+        verify(loadingInitializer).getImplementation();
+    }
+
+    @Test
+    public void canSkipUninitializedValues() {
+        OrderDto dest = buildMapper(LazyLoadPolicy.SKIP).map(order, OrderDto.class);
+
+        assertNull(dest.getCustomer());
+        assertNull(dest.getItems());
+        verify(lazyInitializer, never()).getImplementation();
+    }
+
+    @Test
+    public void canMapIdentifierOfUninitializedValues() {
+        OrderDto dest = buildMapper(LazyLoadPolicy.IDENTIFIER).map(order, OrderDto.class);
+
+        assertEquals(Long.valueOf(7L), dest.getCustomer().getId());
+        assertNull(dest.getCustomer().getName());
+        assertNull(dest.getItems());
+        verify(lazyInitializer, never()).getImplementation();
+    }
+
+    @Test
+    public void canReportUninitializedValues() {
+        RecordingListener listener = new RecordingListener();
+        Mapper mapper = DozerBeanMapperBuilder.create()
+                .withSettingsProcessor(() -> settings(LazyLoadPolicy.CALLBACK))
+                .withEventListener(listener)
+                .build();
+
+        OrderDto dest = mapper.map(order, OrderDto.class);
+
+        assertNull(dest.getCustomer());
+        assertNull(dest.getItems());
+        assertEquals(2, listener.values.size());
+        assertTrue(listener.values.contains(order.getCustomer()));
+        assertTrue(listener.values.contains(order.getItems()));
+        verify(lazyInitializer, never()).getImplementation();
+    }
+
+    @Test
+    public void canOverridePolicyPerField() {
+        Customer customer = new Customer();
+        customer.setName("loaded");
+        order.setCustomer(customer);
+
+        Mapper mapper = DozerBeanMapperBuilder.create()
+                .withSettingsProcessor(() -> settings(LazyLoadPolicy.INITIALIZE))
+                .withMappingBuilder(new BeanMappingBuilder() {
+                    @Override
+                    protected void configure() {
+                        mapping(Order.class, OrderDto.class)
+                                .fields("items", "items", FieldsMappingOptions.lazyLoadPolicy(LazyLoadPolicy.SKIP));
+                    }
+                })
+                .build();
+
+        OrderDto dest = mapper.map(order, OrderDto.class);
+
+        assertEquals("loaded", dest.getCustomer().getName());
+        assertNull(dest.getItems());
+    }
+
+    private Mapper buildMapper(LazyLoadPolicy policy) {
+        return DozerBeanMapperBuilder.create()
+                .withSettingsProcessor(() -> settings(policy))
+                .build();
+    }
+
+    private Settings settings(LazyLoadPolicy policy) {
+        return Settings.builder()
+                .withProxyResolverBeanName(HibernateProxyResolver.class.getName())
+                .withLazyLoadPolicy(policy)
+                .build();
+    }
+
+    public static class RecordingListener implements EventListener {
+
+        // compared by identity, as equals of an uninitialized collection initializes it
+        private final Set<Object> values = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        @Override
+        public void onUninitializedSourceValue(Event event) {
+            values.add(event.getSourceValue());
+        }
+    }
+
+    public static class Order {
+
+        private Customer customer;
+        private List<String> items;
+
+        public Customer getCustomer() {
+            return customer;
+        }
+
+        public void setCustomer(Customer customer) {
+            this.customer = customer;
+        }
+
+        public List<String> getItems() {
+            return items;
+        }
+
+        public void setItems(List<String> items) {
+            this.items = items;
+        }
+    }
+
+    public static class Customer {
+
+        private Long id;
+        private String name;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class CustomerProxy extends Customer implements HibernateProxy {
+
+        private final LazyInitializer lazyInitializer;
+
+        public CustomerProxy(LazyInitializer lazyInitializer) {
+            this.lazyInitializer = lazyInitializer;
+        }
+
+        @Override
+        public String getName() {
+            throw new LazyInitializationException("customer was loaded");
+        }
+
+        @Override
+        public Object writeReplace() {
+            return this;
+        }
+
+        @Override
+        public LazyInitializer getHibernateLazyInitializer() {
+            return lazyInitializer;
+        }
+    }
+
+    public static class OrderDto {
+
+        private CustomerDto customer;
+        private List<String> items;
+
+        public CustomerDto getCustomer() {
+            return customer;
+        }
+
+        public void setCustomer(CustomerDto customer) {
+            this.customer = customer;
+        }
+
+        public List<String> getItems() {
+            return items;
+        }
+
+        public void setItems(List<String> items) {
+            this.items = items;
+        }
+    }
+
+    public static class CustomerDto {
+
+        private Long id;
+        private String name;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
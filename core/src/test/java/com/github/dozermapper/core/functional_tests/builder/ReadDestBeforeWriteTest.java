@@ -0,0 +1,108 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.functional_tests.builder;
+
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.loader.api.BeanMappingBuilder;
+import com.github.dozermapper.core.loader.api.TypeMappingOptions;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ReadDestBeforeWriteTest {
+
+    @Test
+    public void canWriteCreatedDestinationWithoutReading() {
+        Mapper mapper = DozerBeanMapperBuilder.buildDefault();
+
+        CountingItem dest = mapper.map(newItem(), CountingItem.class);
+
+        assertEquals("name", dest.name);
+        assertEquals(0, dest.reads);
+        assertEquals(1, dest.writes);
+    }
+
+    @Test
+    public void canSkipWritingSameReferenceByDefault() {
+        Mapper mapper = DozerBeanMapperBuilder.buildDefault();
+        Item src = newItem();
+        CountingItem dest = new CountingItem();
+        dest.name = src.getName();
+
+        mapper.map(src, dest);
+
+        assertEquals(1, dest.reads);
+        assertEquals(0, dest.writes);
+    }
+
+    @Test
+    public void canWriteExistingDestinationWithoutReading() {
+        Mapper mapper = DozerBeanMapperBuilder.create()
+                .withMappingBuilder(new BeanMappingBuilder() {
+                    @Override
+                    protected void configure() {
+                        mapping(Item.class, CountingItem.class, TypeMappingOptions.readDestBeforeWrite(false));
+                    }
+                })
+                .build();
+        Item src = newItem();
+        CountingItem dest = new CountingItem();
+        dest.name = src.getName();
+
+        mapper.map(src, dest);
+
+        assertEquals(0, dest.reads);
+        assertEquals(1, dest.writes);
+    }
+
+    private Item newItem() {
+        Item item = new Item();
+        item.setName("name");
+        return item;
+    }
+
+    public static class Item {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class CountingItem {
+
+        private String name;
+        private int reads;
+        private int writes;
+
+        public String getName() {
+            reads++;
+            return name;
+        }
+
+        public void setName(String name) {
+            writes++;
+            this.name = name;
+        }
+    }
+}
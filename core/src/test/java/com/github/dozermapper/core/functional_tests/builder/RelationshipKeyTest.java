@@ -0,0 +1,214 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.functional_tests.builder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.github.dozermapper.core.CustomConverter;
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.MappingException;
+import com.github.dozermapper.core.classmap.RelationshipType;
+import com.github.dozermapper.core.loader.api.BeanMappingBuilder;
+import com.github.dozermapper.core.loader.api.FieldsMappingOptions;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class RelationshipKeyTest {
+
+    @Test
+    public void canUpdateListElementsMatchedByKey() {
+        Mapper mapper = keyedMapper("id");
+
+        Order dest = new Order();
+        Line existing = new Line(1L, "old");
+        dest.getLines().add(existing);
+        dest.getLines().add(new Line(2L, "orphan"));
+
+        Order src = new Order();
+        src.getLines().add(new Line(1L, "updated"));
+        src.getLines().add(new Line(3L, "new"));
+
+        mapper.map(src, dest);
+
+        assertEquals(2, dest.getLines().size());
+        assertSame(existing, dest.getLines().get(0));
+        assertEquals("updated", existing.getName());
+        assertEquals(Long.valueOf(3L), dest.getLines().get(1).getId());
+    }
+
+    @Test
+    public void canUpdateSetElementsMatchedByKey() {
+        Mapper mapper = keyedMapper("id");
+
+        Order dest = new Order();
+        Line existing = new Line(1L, "old");
+        dest.getTags().add(existing);
+
+        Order src = new Order();
+        src.getTags().add(new Line(1L, "updated"));
+        src.getTags().add(new Line(2L, "new"));
+
+        mapper.map(src, dest);
+
+        assertEquals(2, dest.getTags().size());
+        assertSame(existing, dest.getTags().iterator().next());
+        assertEquals("updated", existing.getName());
+    }
+
+    @Test
+    public void canAddElementsWithoutKeyValue() {
+        Mapper mapper = keyedMapper("id");
+
+        Order dest = new Order();
+        dest.getLines().add(new Line(null, "first"));
+
+        Order src = new Order();
+        src.getLines().add(new Line(null, "second"));
+
+        mapper.map(src, dest);
+
+        assertEquals(1, dest.getLines().size());
+        assertEquals("second", dest.getLines().get(0).getName());
+    }
+
+    @Test
+    public void canMatchElementsByKeyChangedByUpdate() {
+        Mapper mapper = DozerBeanMapperBuilder.create()
+                .withMappingBuilder(new BeanMappingBuilder() {
+                    @Override
+                    protected void configure() {
+                        mapping(Order.class, Order.class)
+                                .fields("lines", "lines",
+                                        FieldsMappingOptions.relationshipType(RelationshipType.NON_CUMULATIVE),
+                                        FieldsMappingOptions.relationshipKey("name"));
+                        mapping(Line.class, Line.class)
+                                .fields("name", "name", FieldsMappingOptions.customConverter(AppendingConverter.class));
+                    }
+                })
+                .build();
+
+        Order dest = new Order();
+        Line existing = new Line(9L, "a");
+        dest.getLines().add(existing);
+
+        Order src = new Order();
+        src.getLines().add(new Line(1L, "a"));
+        src.getLines().add(new Line(2L, "aa"));
+
+        mapper.map(src, dest);
+
+        assertEquals(1, dest.getLines().size());
+        assertEquals(Long.valueOf(2L), existing.getId());
+        assertEquals("aaaa", existing.getName());
+    }
+
+    @Test(expected = MappingException.class)
+    public void canRejectUnknownKeyProperty() {
+        Mapper mapper = keyedMapper("unknown");
+
+        Order dest = new Order();
+        dest.getLines().add(new Line(1L, "old"));
+
+        mapper.map(dest, new Order());
+    }
+
+    private Mapper keyedMapper(String relationshipKey) {
+        BeanMappingBuilder builder = new BeanMappingBuilder() {
+            @Override
+            protected void configure() {
+                mapping(Order.class, Order.class)
+                        .fields("lines", "lines",
+                                FieldsMappingOptions.relationshipType(RelationshipType.NON_CUMULATIVE),
+                                FieldsMappingOptions.relationshipKey(relationshipKey),
+                                FieldsMappingOptions.removeOrphans())
+                        .fields("tags", "tags",
+                                FieldsMappingOptions.relationshipType(RelationshipType.NON_CUMULATIVE),
+                                FieldsMappingOptions.relationshipKey(relationshipKey));
+            }
+        };
+
+        return DozerBeanMapperBuilder.create()
+                .withMappingBuilder(builder)
+                .build();
+    }
+
+    public static class AppendingConverter implements CustomConverter {
+
+        @Override
+        public Object convert(Object existingDestinationFieldValue, Object sourceFieldValue, Class<?> destinationClass, Class<?> sourceClass) {
+            return existingDestinationFieldValue == null ? sourceFieldValue : existingDestinationFieldValue + (String)sourceFieldValue;
+        }
+    }
+
+    public static class Order {
+
+        private List<Line> lines = new ArrayList<>();
+        private Set<Line> tags = new LinkedHashSet<>();
+
+        public List<Line> getLines() {
+            return lines;
+        }
+
+        public void setLines(List<Line> lines) {
+            this.lines = lines;
+        }
+
+        public Set<Line> getTags() {
+            return tags;
+        }
+
+        public void setTags(Set<Line> tags) {
+            this.tags = tags;
+        }
+    }
+
+    public static class Line {
+
+        private Long id;
+        private String name;
+
+        public Line() {
+        }
+
+        public Line(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.functional_tests.builder;
+
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.loader.api.BeanMappingBuilder;
+import com.github.dozermapper.core.loader.api.TypeMappingOptions;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class TrackReferencesTest {
+
+    @Test
+    public void canKeepSharedReferencesByDefault() {
+        Mapper mapper = DozerBeanMapperBuilder.buildDefault();
+
+        Pair dest = mapper.map(newSharedPair(), Pair.class);
+
+        assertSame(dest.getFirst(), dest.getSecond());
+    }
+
+    @Test
+    public void canSkipReferenceTracking() {
+        Mapper mapper = DozerBeanMapperBuilder.create()
+                .withMappingBuilder(new BeanMappingBuilder() {
+                    @Override
+                    protected void configure() {
+                        mapping(Item.class, Item.class, TypeMappingOptions.trackReferences(false));
+                    }
+                })
+                .build();
+
+        Pair dest = mapper.map(newSharedPair(), Pair.class);
+
+        assertNotSame(dest.getFirst(), dest.getSecond());
+        assertEquals("shared", dest.getSecond().getName());
+    }
+
+    private Pair newSharedPair() {
+        Item item = new Item();
+        item.setName("shared");
+
+        Pair pair = new Pair();
+        pair.setFirst(item);
+        pair.setSecond(item);
+        return pair;
+    }
+
+    public static class Pair {
+
+        private Item first;
+        private Item second;
+
+        public Item getFirst() {
+            return first;
+        }
+
+        public void setFirst(Item first) {
+            this.first = first;
+        }
+
+        public Item getSecond() {
+            return second;
+        }
+
+        public void setSecond(Item second) {
+            this.second = second;
+        }
+    }
+
+    public static class Item {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.plan;
+
+import java.lang.reflect.Method;
+
+import com.github.dozermapper.core.AbstractDozerTest;
+import com.github.dozermapper.core.classmap.ClassMap;
+import com.github.dozermapper.core.classmap.ClassMapBuilder;
+import com.github.dozermapper.core.classmap.Configuration;
+import com.github.dozermapper.core.classmap.generator.BeanMappingGenerator;
+import com.github.dozermapper.core.config.BeanContainer;
+import com.github.dozermapper.core.factory.DestBeanCreator;
+import com.github.dozermapper.core.fieldmap.FieldMap;
+import com.github.dozermapper.core.propertydescriptor.PropertyDescriptorFactory;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ClassMapPlanCompilerTest extends AbstractDozerTest {
+
+    private ClassMapPlanCompiler compiler;
+    private ClassMap classMap;
+
+    @Before
+    public void setUp() {
+        BeanContainer beanContainer = new BeanContainer();
+        DestBeanCreator destBeanCreator = new DestBeanCreator(beanContainer);
+        PropertyDescriptorFactory propertyDescriptorFactory = new PropertyDescriptorFactory();
+        ClassMapBuilder classMapBuilder = new ClassMapBuilder(beanContainer, destBeanCreator,
+                                                              new BeanMappingGenerator(beanContainer, destBeanCreator, propertyDescriptorFactory),
+                                                              propertyDescriptorFactory);
+
+        compiler = new ClassMapPlanCompiler();
+        classMap = classMapBuilder.createDefaultClassMap(new Configuration(), Source.class, Destination.class);
+    }
+
+    @Test
+    public void canCompileMatchingSimpleProperties() {
+        ClassMapPlan plan = compiler.getPlan(classMap, Source.class, Destination.class);
+
+        assertNotNull(plan);
+        assertEquals(3, plan.getCompiledFieldCount());
+        assertNotNull(getFieldPlan(plan, "count"));
+        assertNotNull(getFieldPlan(plan, "name"));
+        assertNotNull(getFieldPlan(plan, "total"));
+    }
+
+    @Test
+    public void leavesConvertedAndNestedPropertiesToEngine() {
+        ClassMapPlan plan = compiler.getPlan(classMap, Source.class, Destination.class);
+
+        assertNull(getFieldPlan(plan, "amount"));
+        assertNull(getFieldPlan(plan, "child"));
+    }
+
+    @Test
+    public void canReuseCompiledPlan() {
+        ClassMapPlan plan = compiler.getPlan(classMap, Source.class, Destination.class);
+
+        assertSame(plan, compiler.getPlan(classMap, Source.class, Destination.class));
+    }
+
+    @Test
+    public void canCopyValuesWithCompiledAccessors() {
+        ClassMapPlan plan = compiler.getPlan(classMap, Source.class, Destination.class);
+
+        Source source = new Source();
+        source.setCount(42);
+        source.setName("dozer");
+        source.setTotal(7L);
+
+        Destination destination = new Destination();
+        for (String field : new String[] {"count", "name", "total"}) {
+            FieldMapPlan fieldPlan = getFieldPlan(plan, field);
+            fieldPlan.writeDestValue(destination, fieldPlan.readSrcValue(source));
+        }
+
+        assertEquals(42, destination.getCount());
+        assertEquals("dozer", destination.getName());
+        assertEquals(Long.valueOf(7L), destination.getTotal());
+    }
+
+    @Test
+    public void skipsNullForPrimitiveProperty() {
+        ClassMapPlan plan = compiler.getPlan(classMap, Source.class, Destination.class);
+
+        Destination destination = new Destination();
+        destination.setCount(3);
+        getFieldPlan(plan, "count").writeDestValue(destination, null);
+
+        assertEquals(3, destination.getCount());
+    }
+
+    @Test
+    public void canCreateAccessorsForNonPublicClass() throws Throwable {
+        Method getter = HiddenBean.class.getDeclaredMethod("getValue");
+        Method setter = HiddenBean.class.getDeclaredMethod("setValue", String.class);
+
+        HiddenBean bean = new HiddenBean();
+        ClassMapPlanCompiler.createWriter(setter).write(bean, "hidden");
+
+        assertEquals("hidden", ClassMapPlanCompiler.createReader(getter).read(bean));
+    }
+
+    private FieldMapPlan getFieldPlan(ClassMapPlan plan, String fieldName) {
+        int index = 0;
+        for (FieldMap fieldMap : classMap.getFieldMaps()) {
+            if (fieldName.equals(fieldMap.getSrcFieldName())) {
+                return plan.getFieldPlan(index, fieldMap);
+            }
+            index++;
+        }
+        return null;
+    }
+
+    public static class Source {
+
+        private int count;
+        private String name;
+        private Long total;
+        private String amount;
+        private Source child;
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Long getTotal() {
+            return total;
+        }
+
+        public void setTotal(Long total) {
+            this.total = total;
+        }
+
+        public String getAmount() {
+            return amount;
+        }
+
+        public void setAmount(String amount) {
+            this.amount = amount;
+        }
+
+        public Source getChild() {
+            return child;
+        }
+
+        public void setChild(Source child) {
+            this.child = child;
+        }
+    }
+
+    public static class Destination {
+
+        private int count;
+        private String name;
+        private Long total;
+        private Integer amount;
+        private Destination child;
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Long getTotal() {
+            return total;
+        }
+
+        public void setTotal(Long total) {
+            this.total = total;
+        }
+
+        public Integer getAmount() {
+            return amount;
+        }
+
+        public void setAmount(Integer amount) {
+            this.amount = amount;
+        }
+
+        public Destination getChild() {
+            return child;
+        }
+
+        public void setChild(Destination child) {
+            this.child = child;
+        }
+    }
+
+    static class HiddenBean {
+
+        private String value;
+
+        String getValue() {
+            return value;
+        }
+
+        void setValue(String value) {
+            this.value = value;
+        }
+    }
+}
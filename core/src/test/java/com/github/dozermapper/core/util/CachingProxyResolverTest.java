@@ -0,0 +1,103 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.util;
+
+import com.github.dozermapper.core.config.BeanContainer;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingProxyResolverTest {
+
+    private DozerProxyResolver delegate;
+    private CachingProxyResolver resolver;
+
+    @Before
+    public void setUp() {
+        delegate = mock(DozerProxyResolver.class);
+        doReturn(String.class).when(delegate).getRealClass(String.class);
+        when(delegate.isProxy(Integer.class)).thenReturn(true);
+        doReturn(Number.class).when(delegate).getRealClass(Integer.class);
+        resolver = CachingProxyResolver.of(delegate);
+    }
+
+    @Test
+    public void canAskDelegateOncePerClass() {
+        assertFalse(resolver.isProxy(String.class));
+        assertFalse(resolver.isProxy(String.class));
+        assertSame(String.class, resolver.getRealClass(String.class));
+
+        verify(delegate, times(1)).isProxy(String.class);
+        verify(delegate, times(1)).getRealClass(String.class);
+    }
+
+    @Test
+    public void canResolveProxies() {
+        Integer proxy = 1;
+        when(delegate.unenhanceObject(proxy)).thenReturn(2);
+
+        assertTrue(resolver.isProxy(Integer.class));
+        assertSame(Number.class, resolver.getRealClass(Integer.class));
+        assertSame(2, resolver.unenhanceObject(proxy));
+    }
+
+    @Test
+    public void canSkipUnenhancingOtherObjects() {
+        String object = "object";
+
+        assertSame(object, resolver.unenhanceObject(object));
+        assertSame(null, resolver.unenhanceObject(null));
+        verify(delegate, never()).unenhanceObject(object);
+    }
+
+    @Test
+    public void canAskDelegateForLazyLoadState() {
+        String object = "object";
+        when(delegate.isInitialized(object)).thenReturn(false);
+        when(delegate.getIdentifier(object)).thenReturn(7L);
+        when(delegate.getIdentifierProperty(object)).thenReturn("key");
+
+        assertFalse(resolver.isInitialized(object));
+        assertSame(7L, resolver.getIdentifier(object));
+        assertEquals("key", resolver.getIdentifierProperty(object));
+    }
+
+    @Test
+    public void canKeepUserResolverInBeanContainer() {
+        BeanContainer beanContainer = new BeanContainer();
+        beanContainer.setProxyResolver(delegate);
+
+        assertSame(delegate, beanContainer.getProxyResolver());
+        assertSame(delegate, ((CachingProxyResolver)beanContainer.getCachingProxyResolver()).getDelegate());
+    }
+
+    @Test
+    public void canDecorateOnce() {
+        assertSame(resolver, CachingProxyResolver.of(resolver));
+        assertSame(delegate, resolver.getDelegate());
+    }
+}
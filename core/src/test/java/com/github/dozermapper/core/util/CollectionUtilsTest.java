@@ -89,6 +89,23 @@ public class CollectionUtilsTest extends AbstractDozerTest {
         assertEquals("invalid result", sysTime, result);
     }
 
+    @Test
+    public void testGetValueFromCollection_ListAndSet() {
+        assertEquals("two", CollectionUtils.getValueFromCollection(new LinkedList<>(Arrays.asList("one", "two", "three")), 1));
+        assertEquals("three", CollectionUtils.getValueFromCollection(new TreeSet<>(Arrays.asList("one", "two", "three")), 1));
+        assertEquals(3, CollectionUtils.getValueFromCollection(new int[] {1, 2, 3}, 2));
+    }
+
+    @Test
+    public void testAsIterable() {
+        List<Object> values = new ArrayList<>();
+        CollectionUtils.asIterable(new int[] {1, 2, 3}).forEach(values::add);
+        CollectionUtils.asIterable(new String[] {"four"}).forEach(values::add);
+        CollectionUtils.asIterable(new TreeSet<>(Arrays.asList("five"))).forEach(values::add);
+
+        assertEquals(Arrays.asList(1, 2, 3, "four", "five"), values);
+    }
+
     @Test
     public void testLengthOfCollection() {
         String[] input = new String[] {"zer", "one", "two", "three", "four"};
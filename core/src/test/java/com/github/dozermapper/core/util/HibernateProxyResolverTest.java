@@ -0,0 +1,98 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.util;
+
+import org.hibernate.collection.internal.PersistentBag;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class HibernateProxyResolverTest {
+
+    private HibernateProxyResolver resolver;
+    private LazyInitializer lazyInitializer;
+    private HibernateProxy proxy;
+
+    @Before
+    public void setUp() {
+        resolver = new HibernateProxyResolver();
+        lazyInitializer = mock(LazyInitializer.class);
+        proxy = mock(HibernateProxy.class);
+        when(proxy.getHibernateLazyInitializer()).thenReturn(lazyInitializer);
+    }
+
+    @Test
+    public void canDetectUninitializedProxy() {
+        when(lazyInitializer.isUninitialized()).thenReturn(true);
+
+        assertFalse(resolver.isInitialized(proxy));
+        verify(lazyInitializer, never()).getImplementation();
+    }
+
+    @Test
+    public void canDetectInitializedProxy() {
+        when(lazyInitializer.isUninitialized()).thenReturn(false);
+
+        assertTrue(resolver.isInitialized(proxy));
+    }
+
+    @Test
+    public void canDetectUninitializedCollection() {
+        assertFalse(resolver.isInitialized(new PersistentBag()));
+    }
+
+    @Test
+    public void canTreatOtherObjectsAsInitialized() {
+        assertTrue(resolver.isInitialized("object"));
+    }
+
+    @Test
+    public void canGetIdentifierWithoutInitializing() {
+        when(lazyInitializer.getIdentifier()).thenReturn(7L);
+
+        assertEquals(7L, resolver.getIdentifier(proxy));
+        assertNull(resolver.getIdentifier(new PersistentBag()));
+        verify(lazyInitializer, never()).getImplementation();
+    }
+
+    @Test
+    public void canGetIdentifierPropertyFromSessionFactory() {
+        SharedSessionContractImplementor session = mock(SharedSessionContractImplementor.class, RETURNS_DEEP_STUBS);
+        when(lazyInitializer.getSession()).thenReturn(session);
+        when(lazyInitializer.getEntityName()).thenReturn("Customer");
+        when(session.getFactory().getMetamodel().entityPersister("Customer").getIdentifierPropertyName()).thenReturn("customerId");
+
+        assertEquals("customerId", resolver.getIdentifierProperty(proxy));
+        verify(lazyInitializer, never()).getImplementation();
+    }
+
+    @Test
+    public void canFallBackToIdPropertyOfDetachedProxy() {
+        assertEquals("id", resolver.getIdentifierProperty(proxy));
+    }
+}
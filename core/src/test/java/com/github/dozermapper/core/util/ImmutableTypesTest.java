@@ -0,0 +1,114 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.util;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.github.dozermapper.core.AbstractDozerTest;
+import com.github.dozermapper.core.Immutable;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ImmutableTypesTest extends AbstractDozerTest {
+
+    @Test
+    public void canDetectJdkTypes() {
+        assertTrue(ImmutableTypes.isImmutable(String.class));
+        assertTrue(ImmutableTypes.isImmutable(int.class));
+        assertTrue(ImmutableTypes.isImmutable(Long.class));
+        assertTrue(ImmutableTypes.isImmutable(BigDecimal.class));
+        assertTrue(ImmutableTypes.isImmutable(UUID.class));
+        assertTrue(ImmutableTypes.isImmutable(LocalDate.class));
+        assertTrue(ImmutableTypes.isImmutable(TimeUnit.class));
+
+        assertFalse(ImmutableTypes.isImmutable(Date.class));
+        assertFalse(ImmutableTypes.isImmutable(List.class));
+        assertFalse(ImmutableTypes.isImmutable(Object.class));
+        assertFalse(ImmutableTypes.isImmutable(int[].class));
+        assertFalse(ImmutableTypes.isImmutable(Optional.class));
+    }
+
+    @Test
+    public void canDetectFinalClassesWithFinalFields() {
+        assertTrue(ImmutableTypes.isImmutable(Money.class));
+        assertTrue(ImmutableTypes.isImmutable(Node.class));
+
+        assertFalse(ImmutableTypes.isImmutable(MutableMoney.class));
+        assertFalse(ImmutableTypes.isImmutable(OpenMoney.class));
+        assertFalse(ImmutableTypes.isImmutable(Basket.class));
+    }
+
+    @Test
+    public void canDetectMarkedClasses() {
+        assertTrue(ImmutableTypes.isImmutable(Marked.class));
+    }
+
+    public static final class Money {
+
+        private final BigDecimal amount;
+        private final String currency;
+
+        public Money(BigDecimal amount, String currency) {
+            this.amount = amount;
+            this.currency = currency;
+        }
+    }
+
+    public static final class Node {
+
+        private final String name;
+        private final Node parent;
+
+        public Node(String name, Node parent) {
+            this.name = name;
+            this.parent = parent;
+        }
+    }
+
+    public static final class MutableMoney {
+
+        private BigDecimal amount;
+    }
+
+    public static class OpenMoney {
+
+        private final BigDecimal amount = BigDecimal.ONE;
+    }
+
+    public static final class Basket {
+
+        private final List<Money> items;
+
+        public Basket(List<Money> items) {
+            this.items = items;
+        }
+    }
+
+    @Immutable
+    public static class Marked {
+
+        private List<String> values;
+    }
+}
@@ -19,6 +19,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
@@ -55,6 +56,7 @@ import org.junit.Test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -244,6 +246,14 @@ public class MappingUtilsTest extends AbstractDozerTest {
         assertEquals(expected, result);
     }
 
+    @Test
+    public void testGetIndexedValue() {
+        assertEquals("two", MappingUtils.getIndexedValue(new String[] {"one", "two"}, 1));
+        assertEquals("two", MappingUtils.getIndexedValue(Arrays.asList("one", "two"), 1));
+        assertEquals("two", MappingUtils.getIndexedValue(new LinkedHashSet<>(Arrays.asList("one", "two")), 1));
+        assertNull(MappingUtils.getIndexedValue(Arrays.asList("one", "two"), 2));
+    }
+
     @Test
     public void testGetSuperClasses() {
 
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2005-2018 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.util;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.github.dozermapper.core.AbstractDozerTest;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PrimitiveArrayUtilsTest extends AbstractDozerTest {
+
+    @Test
+    public void canDetectCopyableTypes() {
+        assertTrue(PrimitiveArrayUtils.isCopyable(int.class, int.class));
+        assertTrue(PrimitiveArrayUtils.isCopyable(int.class, long.class));
+        assertTrue(PrimitiveArrayUtils.isCopyable(byte.class, double.class));
+        assertTrue(PrimitiveArrayUtils.isCopyable(double.class, Double.class));
+        assertTrue(PrimitiveArrayUtils.isCopyable(char.class, Character.class));
+
+        assertFalse(PrimitiveArrayUtils.isCopyable(long.class, int.class));
+        assertFalse(PrimitiveArrayUtils.isCopyable(int.class, Long.class));
+        assertFalse(PrimitiveArrayUtils.isCopyable(char.class, int.class));
+        assertFalse(PrimitiveArrayUtils.isCopyable(boolean.class, int.class));
+        assertFalse(PrimitiveArrayUtils.isCopyable(Integer.class, int.class));
+    }
+
+    @Test
+    public void canWidenArrays() {
+        assertArrayEquals(new long[] {1, -2, 3}, (long[])PrimitiveArrayUtils.copy(new int[] {1, -2, 3}, long.class, null));
+        assertArrayEquals(new double[] {1, -2}, (double[])PrimitiveArrayUtils.copy(new byte[] {1, -2}, double.class, null), 0);
+        assertArrayEquals(new float[] {1.5f}, (float[])PrimitiveArrayUtils.copy(new float[] {1.5f}, float.class, null), 0);
+        assertArrayEquals(new short[] {-7}, (short[])PrimitiveArrayUtils.copy(new byte[] {-7}, short.class, null));
+        assertArrayEquals(new double[] {0.5}, (double[])PrimitiveArrayUtils.copy(new float[] {0.5f}, double.class, null), 0);
+    }
+
+    @Test
+    public void canAppendToExistingArray() {
+        long[] result = (long[])PrimitiveArrayUtils.copy(new short[] {3, 4}, long.class, new long[] {1, 2});
+
+        assertArrayEquals(new long[] {1, 2, 3, 4}, result);
+    }
+
+    @Test
+    public void canBoxArrays() {
+        Double[] result = (Double[])PrimitiveArrayUtils.copy(new double[] {1.5, 2.5}, Double.class, null);
+
+        assertArrayEquals(new Double[] {1.5, 2.5}, result);
+    }
+
+    @Test
+    public void canConvertToList() {
+        assertEquals(Arrays.asList('a', 'b'), PrimitiveArrayUtils.toList(new char[] {'a', 'b'}));
+        assertEquals(Arrays.asList(true, false), PrimitiveArrayUtils.toList(new boolean[] {true, false}));
+    }
+
+    @Test
+    public void canConvertFromList() {
+        List<Integer> values = Arrays.asList(1, 2, 3);
+
+        assertArrayEquals(new int[] {1, 2, 3}, (int[])PrimitiveArrayUtils.toArray(values, int.class));
+        assertArrayEquals(new long[] {1, 2, 3}, (long[])PrimitiveArrayUtils.toArray(values, long.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void canRejectNarrowingFromList() {
+        PrimitiveArrayUtils.toArray(Arrays.asList(1L), int.class);
+    }
+}
@@ -26,11 +26,15 @@ import javax.xml.datatype.XMLGregorianCalendar;
 import com.github.dozermapper.core.AbstractDozerTest;
 import com.github.dozermapper.core.MappingException;
 import com.github.dozermapper.core.config.BeanContainer;
+import com.github.dozermapper.core.fieldmap.HintContainer;
+import com.github.dozermapper.core.propertydescriptor.DeepHierarchyElement;
 import com.github.dozermapper.core.vo.A;
 import com.github.dozermapper.core.vo.B;
 import com.github.dozermapper.core.vo.NoReadMethod;
 import com.github.dozermapper.core.vo.NoVoidSetters;
 import com.github.dozermapper.core.vo.SimpleObj;
+import com.github.dozermapper.core.vo.deep.SrcDeepObj;
+import com.github.dozermapper.core.vo.deep.SrcNestedDeepObj;
 import com.github.dozermapper.core.vo.inheritance.ChildChildIF;
 
 import org.junit.Assert;
@@ -41,7 +45,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsNull.notNullValue;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 public class ReflectionUtilsTest extends AbstractDozerTest {
@@ -65,6 +71,33 @@ public class ReflectionUtilsTest extends AbstractDozerTest {
                                               String.valueOf(System.currentTimeMillis()) + "." + String.valueOf(System.currentTimeMillis()), null);
     }
 
+    @Test
+    public void testGetDeepFieldHierarchy_Cached() {
+        DeepHierarchyCache<DeepHierarchyElement[]> cache = new DeepHierarchyCache<>();
+        DeepHierarchyElement[] hierarchy = ReflectionUtils.getDeepFieldHierarchy(SrcDeepObj.class, "srcNestedObj.src1", null, cache);
+
+        assertEquals(2, hierarchy.length);
+        assertEquals("srcNestedObj", hierarchy[0].getPropDescriptor().getName());
+        assertEquals(SrcNestedDeepObj.class, hierarchy[0].getPropertyType());
+        assertEquals("getSrc1", hierarchy[1].getReadMethod().getName());
+        assertSame(hierarchy, ReflectionUtils.getDeepFieldHierarchy(SrcDeepObj.class, "srcNestedObj.src1", null, cache));
+        assertNotSame(hierarchy, ReflectionUtils.getDeepFieldHierarchy(SrcDeepObj.class, "srcNestedObj.src1", null, new DeepHierarchyCache<>()));
+    }
+
+    @Test
+    public void testGetDeepFieldHierarchy_CachedPerHintContainer() {
+        HintContainer hintContainer = new HintContainer(beanContainer);
+        hintContainer.setHintName(String.class.getName());
+
+        DeepHierarchyCache<DeepHierarchyElement[]> cache = new DeepHierarchyCache<>();
+        DeepHierarchyElement[] hierarchy = ReflectionUtils.getDeepFieldHierarchy(SrcDeepObj.class, "srcNestedObj.src2", null, cache);
+        DeepHierarchyElement[] hintedHierarchy = ReflectionUtils.getDeepFieldHierarchy(SrcDeepObj.class, "srcNestedObj.src2", hintContainer, cache);
+
+        assertNotSame(hierarchy, hintedHierarchy);
+        assertSame(hintedHierarchy, ReflectionUtils.getDeepFieldHierarchy(SrcDeepObj.class, "srcNestedObj.src2", hintContainer, cache));
+        assertEquals(2, cache.size());
+    }
+
     @Test
     public void testGetPropertyDescriptors_InterfaceInheritance() {
         // Should walk the inheritance hierarchy all the way up to the super interface and find all properties along the way